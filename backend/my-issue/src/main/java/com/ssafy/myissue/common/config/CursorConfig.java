@@ -0,0 +1,16 @@
+package com.ssafy.myissue.common.config;
+
+import com.ssafy.myissue.news.dto.CursorCodec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.Base64;
+
+@Configuration
+public class CursorConfig {
+
+    // 커서 서명 키 (별도 지정 없으면 JWT 비밀값에서 파생) — 여러 인스턴스가 같은 값을 써야 커서가 호환됨
+    public CursorConfig(@Value("${app.cursor.secret-base64:${jwt.secret-base64}}") String base64Secret) {
+        CursorCodec.configure(Base64.getDecoder().decode(base64Secret));
+    }
+}
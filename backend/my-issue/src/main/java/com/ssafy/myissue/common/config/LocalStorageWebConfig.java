@@ -0,0 +1,28 @@
+package com.ssafy.myissue.common.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.nio.file.Path;
+
+// storage.type=local일 때 저장 디렉터리를 /storage/** 로 서빙 (LocalObjectStorage가 돌려주는 URL이 실제로 열리도록)
+@Configuration
+@ConditionalOnProperty(name = "storage.type", havingValue = "local")
+public class LocalStorageWebConfig implements WebMvcConfigurer {
+
+    public static final String PATH = "/storage/**";
+
+    private final String location;
+
+    public LocalStorageWebConfig(@Value("${storage.local.root:./storage}") String root) {
+        this.location = Path.of(root).toAbsolutePath().normalize().toUri().toString(); // file:/.../ (끝 '/' 포함)
+    }
+
+    @Override
+    public void addResourceHandlers(ResourceHandlerRegistry registry) {
+        registry.addResourceHandler(PATH).addResourceLocations(location);
+    }
+}
@@ -2,6 +2,7 @@ package com.ssafy.myissue.common.config;
 
 import com.ssafy.myissue.user.token.JwtAuthenticationFilter;
 import com.ssafy.myissue.user.token.JwtIssuer;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -42,10 +43,14 @@ public class SecurityConfig {
                 .authorizeHttpRequests(a -> a
                         .requestMatchers(HttpMethod.OPTIONS, "/**").permitAll()
                         .requestMatchers("/error").permitAll()
+                        // SSE 완료 시 async 디스패치 (원 요청에서 이미 인증됨)
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         // 공개 엔드포인트
                         .requestMatchers(HttpMethod.POST, "/auth/device", "/auth/reissue").permitAll()
                         .requestMatchers(HttpMethod.POST, "/news/hot/update").permitAll()
                         .requestMatchers("/actuator/health", "/actuator/info").permitAll()
+                        // storage.type=local 파일 (S3 공개 URL과 같은 취급, local이 아니면 핸들러가 없어 404)
+                        .requestMatchers(HttpMethod.GET, LocalStorageWebConfig.PATH).permitAll()
                         // 나머지는 인증 필요
                         .anyRequest().authenticated()
                 )
@@ -0,0 +1,524 @@
+package com.ssafy.myissue.common.llm;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.myissue.common.util.SingleFlight;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Flow;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * OpenAI 호환 LLM API 공통 클라이언트 (뉴스 챗봇 / 네컷 요약·이미지 / 팟캐스트 대본이 모두 이걸 통해 호출)
+ *  - 커넥션 풀을 공유하는 HTTP/2 HttpClient 1개 + 연결/요청 타임아웃
+ *  - 모델별 동시 호출 수(Semaphore) + 분당 요청 수(TokenBucket) 제한, 토큰은 재시도를 포함해 실제 전송마다 1개
+ *  - 스트리밍은 제한 대기도 비동기 (호출 스레드를 재우지 않음), STREAM_QUEUE_TIMEOUT 넘게 자리가 안 나면 429로 실패
+ *  - 429 / 5xx / 네트워크 오류는 지수 백오프 + 지터로 재시도 (Retry-After 헤더 우선)
+ *  - 동일 프롬프트 동시 호출은 single-flight로 합침 (llm.coalesce-result-ttl 동안 결과도 공유)
+ *  - 메트릭: llm.call{model,op,outcome} 지연시간, llm.tokens{model,type} 토큰 수, llm.retry{model}, llm.coalesced{model}
+ *  - 엔드포인트는 llm.chat-url / llm.image-url 로 바꿀 수 있음 (로컬 스텁 서버 테스트용)
+ */
+@Slf4j
+@Component
+public class LlmClient {
+
+    private static final Duration CONNECT_TIMEOUT = Duration.ofSeconds(5);
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(180); // gpt-5 대본 생성이 가장 김
+    private static final Duration BACKOFF_BASE = Duration.ofMillis(500);
+    private static final Duration BACKOFF_MAX = Duration.ofSeconds(8);
+    private static final Duration RETRY_AFTER_MAX = Duration.ofSeconds(30);
+    private static final Duration STREAM_QUEUE_TIMEOUT = Duration.ofSeconds(10);
+    private static final Duration STREAM_SLOT_POLL = Duration.ofMillis(50);
+
+    // 모델별 동시 호출 수 / 분당 요청 수
+    private static final Map<String, ModelLimit> LIMITS = Map.of(
+            "gpt-5", new ModelLimit(4, 60),
+            "gpt-5-nano", new ModelLimit(16, 300),
+            "gpt-image-1", new ModelLimit(2, 10)
+    );
+    private static final ModelLimit DEFAULT_LIMIT = new ModelLimit(8, 120);
+
+    private record ModelLimit(int concurrency, int requestsPerMinute) {}
+
+    private record Gate(Semaphore semaphore, TokenBucket bucket) {}
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_2)
+            .connectTimeout(CONNECT_TIMEOUT)
+            .build();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Map<String, Gate> gates = new ConcurrentHashMap<>();
+    private final SingleFlight<String> chatFlight;
+
+    private final MeterRegistry meterRegistry;
+    private final String chatUrl;
+    private final String imageUrl;
+    private final String gmsKey;
+    private final String openaiKey;
+    private final int maxAttempts;
+    private final Duration backoffBase;
+
+    @Autowired
+    public LlmClient(MeterRegistry meterRegistry,
+                     @Value("${llm.chat-url:https://gms.ssafy.io/gmsapi/api.openai.com/v1/chat/completions}") String chatUrl,
+                     @Value("${llm.image-url:https://api.openai.com/v1/images/generations}") String imageUrl,
+                     @Value("${gms.key}") String gmsKey,
+                     @Value("${openai.api-key}") String openaiKey,
+                     @Value("${llm.max-attempts:3}") int maxAttempts,
+                     @Value("${llm.coalesce-result-ttl:5s}") Duration coalesceResultTtl) {
+        this(meterRegistry, chatUrl, imageUrl, gmsKey, openaiKey, maxAttempts, BACKOFF_BASE, coalesceResultTtl);
+    }
+
+    LlmClient(MeterRegistry meterRegistry, String chatUrl, String imageUrl, String gmsKey, String openaiKey,
+              int maxAttempts, Duration backoffBase, Duration coalesceResultTtl) {
+        this.meterRegistry = meterRegistry;
+        this.chatUrl = chatUrl;
+        this.imageUrl = imageUrl;
+        this.gmsKey = gmsKey;
+        this.openaiKey = openaiKey;
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.backoffBase = backoffBase;
+        this.chatFlight = new SingleFlight<>(coalesceResultTtl);
+    }
+
+    /**
+     * chat completions 1회 호출 → choices[0].message.content
+     *  - 같은 (model, 프롬프트)로 동시에 들어온 호출은 1번만 보내고 결과 공유 (llm.coalesced{model})
+     */
+    public String chat(String model, String developerPrompt, String userPrompt) {
+        String key = model + ":" + sha256(developerPrompt + "\u0000" + userPrompt);
+        return chatFlight.execute(key, () -> {
+            JsonNode root = call(model, "chat", chatUrl, gmsKey, chatBody(model, developerPrompt, userPrompt));
+            return root.path("choices").path(0).path("message").path("content").asText();
+        }, () -> meterRegistry.counter("llm.coalesced", "model", model).increment());
+    }
+
+    /**
+     * chat completions 스트리밍 (stream=true)
+     *  - 토큰 조각(delta)이 도착할 때마다 onDelta 호출, 완료 시 전체 답변으로 future 완료
+     *  - 첫 조각이 나가기 전(429/5xx 응답)까지만 재시도. future를 취소하면 남은 응답 수신도 중단
+     *  - 동시 호출 자리 / 분당 요청 수 대기도 예약 실행으로 처리 → 호출 스레드는 바로 반환
+     */
+    public CompletableFuture<String> streamChat(String model, String developerPrompt, String userPrompt,
+                                                Consumer<String> onDelta) {
+        Map<String, Object> body = chatBody(model, developerPrompt, userPrompt);
+        body.put("stream", true);
+        body.put("stream_options", Map.of("include_usage", true));
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(body);
+        } catch (JsonProcessingException e) {
+            return CompletableFuture.failedFuture(new LlmException("LLM 요청 직렬화 실패", 0, null, null, e));
+        }
+
+        Gate gate = gate(model);
+        long start = System.nanoTime();
+        CompletableFuture<String> result = new CompletableFuture<>();
+        result.whenComplete((answer, ex) -> record(model, "chat-stream", ex == null, start));
+        acquireSlotAsync(gate, start + STREAM_QUEUE_TIMEOUT.toNanos(), result, () -> {
+            // 자리를 얻은 뒤에 등록 → 이미 끝났으면(취소 등) 바로 반납
+            result.whenComplete((answer, ex) -> gate.semaphore().release());
+            streamAttempt(model, gate, json, onDelta, result, 1);
+        });
+        return result;
+    }
+
+    /**
+     * images/generations 호출 → data[0] 이미지 바이트를 out에 흘려보냄
+     *  - 응답 본문을 String/트리로 만들지 않고 스트리밍 파서로 b64_json을 읽으면서 바로 디코딩 (고정 크기 버퍼)
+     *  - b64_json 대신 url이 오면 그 URL을 받아서 out에 복사
+     *  - 본문을 쓰기 시작한 뒤의 실패는 재시도하지 않음 (out에 이미 일부가 나감)
+     */
+    public void generateImage(Map<String, Object> body, OutputStream out) {
+        String model = String.valueOf(body.getOrDefault("model", "image"));
+        String json = serialize(body);
+
+        Gate gate = gate(model);
+        long start = System.nanoTime();
+        boolean success = false;
+        String fallbackUrl;
+        try {
+            gate.semaphore().acquire();
+            try {
+                HttpResponse<InputStream> res = send(model, gate, request(imageUrl, openaiKey, json, false),
+                        HttpResponse.BodyHandlers.ofInputStream(), this::drain);
+                try (InputStream in = res.body()) {
+                    fallbackUrl = copyImage(model, in, out);
+                }
+            } finally {
+                gate.semaphore().release();
+            }
+            success = true;
+        } catch (IOException e) {
+            throw new LlmException("이미지 응답 수신 실패", 200, null, e.getMessage(), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new LlmException("LLM 호출 중단", 0, null, null, e);
+        } finally {
+            record(model, "image", success, start);
+        }
+
+        if (fallbackUrl != null) download(fallbackUrl, out);
+    }
+
+    /** 이미지 URL 폴백 등 단순 GET → out에 복사 (같은 커넥션 풀 사용, 모델 제한 없음) */
+    public void download(String url, OutputStream out) {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(url)).timeout(REQUEST_TIMEOUT).GET().build();
+        try {
+            HttpResponse<InputStream> res = httpClient.send(request, HttpResponse.BodyHandlers.ofInputStream());
+            try (InputStream in = res.body()) {
+                if (res.statusCode() / 100 != 2) {
+                    throw new LlmException("다운로드 실패", res.statusCode(), null, url, null);
+                }
+                if (in.transferTo(out) == 0) {
+                    throw new LlmException("다운로드 실패(빈 응답)", res.statusCode(), null, url, null);
+                }
+            }
+        } catch (IOException e) {
+            throw new LlmException("다운로드 실패", 0, null, url, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new LlmException("다운로드 중단", 0, null, url, e);
+        }
+    }
+
+    // ================= 내부 =================
+
+    private Map<String, Object> chatBody(String model, String developerPrompt, String userPrompt) {
+        Map<String, Object> body = new HashMap<>();
+        body.put("model", model);
+        body.put("messages", List.of(
+                Map.of("role", "developer", "content", developerPrompt),
+                Map.of("role", "user", "content", userPrompt)
+        ));
+        return body;
+    }
+
+    private JsonNode call(String model, String op, String url, String apiKey, Map<String, Object> body) {
+        String json = serialize(body);
+
+        Gate gate = gate(model);
+        long start = System.nanoTime();
+        boolean success = false;
+        try {
+            gate.semaphore().acquire();
+            try {
+                HttpResponse<String> res = send(model, gate, request(url, apiKey, json, false),
+                        HttpResponse.BodyHandlers.ofString(), Function.identity());
+                JsonNode root = parse(res.body());
+                recordUsage(model, root.path("usage"));
+                success = true;
+                return root;
+            } finally {
+                gate.semaphore().release();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new LlmException("LLM 호출 중단", 0, null, null, e);
+        } finally {
+            record(model, op, success, start);
+        }
+    }
+
+    // 2xx가 올 때까지 재시도 (429 / 5xx / 연결 실패), errorBody: 실패 응답 본문 → 문자열
+    // 시도마다 분당 요청 수 토큰을 새로 가져감 (재시도도 실제 요청이므로)
+    private <T> HttpResponse<T> send(String model, Gate gate, HttpRequest request, HttpResponse.BodyHandler<T> handler,
+                                     Function<T, String> errorBody) throws InterruptedException {
+        for (int attempt = 1; ; attempt++) {
+            gate.bucket().acquire();
+            HttpResponse<T> res;
+            try {
+                res = httpClient.send(request, handler);
+            } catch (IOException e) {
+                if (attempt >= maxAttempts) throw new LlmException("LLM 호출 실패", 0, null, e.getMessage(), e);
+                Thread.sleep(backoffMillis(model, attempt, Optional.empty()));
+                continue;
+            }
+
+            if (res.statusCode() / 100 == 2) return res;
+            LlmException error = error(res.statusCode(), errorBody.apply(res.body()));
+            if (!error.isRetryable() || attempt >= maxAttempts) throw error;
+            Thread.sleep(backoffMillis(model, attempt, res.headers().firstValue("retry-after")));
+        }
+    }
+
+    /**
+     * 이미지 응답 스트리밍 파싱: data[0].b64_json은 디코딩하면서 out에 쓰고, usage는 메트릭으로
+     * @return b64_json 없이 url만 온 경우 그 URL (이미 out에 썼으면 null)
+     */
+    private String copyImage(String model, InputStream in, OutputStream out) throws IOException {
+        String url = null;
+        boolean written = false;
+        try (JsonParser p = objectMapper.getFactory().createParser(in)) {
+            if (p.nextToken() != JsonToken.START_OBJECT) {
+                throw new LlmException("이미지 응답 파싱 실패", 200, null, null, null);
+            }
+            while (p.nextToken() == JsonToken.FIELD_NAME) {
+                String field = p.currentName();
+                JsonToken value = p.nextToken();
+                if ("data".equals(field) && value == JsonToken.START_ARRAY) {
+                    for (int i = 0; p.nextToken() == JsonToken.START_OBJECT; i++) {
+                        while (p.nextToken() == JsonToken.FIELD_NAME) {
+                            String key = p.currentName();
+                            p.nextToken();
+                            if (i == 0 && "b64_json".equals(key) && p.currentToken() == JsonToken.VALUE_STRING) {
+                                written = p.readBinaryValue(out) > 0;
+                            } else if (i == 0 && "url".equals(key) && p.currentToken() == JsonToken.VALUE_STRING) {
+                                url = p.getText();
+                            } else {
+                                p.skipChildren();
+                            }
+                        }
+                    }
+                } else if ("usage".equals(field) && value == JsonToken.START_OBJECT) {
+                    recordUsage(model, p.readValueAsTree());
+                } else {
+                    p.skipChildren();
+                }
+            }
+        }
+        if (written) return null;
+        if (url == null || url.isBlank()) {
+            throw new LlmException("이미지 응답에 b64_json/url이 없음", 200, null, null, null);
+        }
+        return url;
+    }
+
+    private String drain(InputStream in) {
+        try (in) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            return "";
+        }
+    }
+
+    private String serialize(Map<String, Object> body) {
+        try {
+            return objectMapper.writeValueAsString(body);
+        } catch (JsonProcessingException e) {
+            throw new LlmException("LLM 요청 직렬화 실패", 0, null, null, e);
+        }
+    }
+
+    // 분당 요청 수 토큰이 없으면 생길 때까지 예약 실행 (시도마다 1개)
+    private void streamAttempt(String model, Gate gate, String json, Consumer<String> onDelta,
+                               CompletableFuture<String> result, int attempt) {
+        if (result.isDone()) return;
+        long waitNanos = gate.bucket().tryAcquire();
+        if (waitNanos > 0) {
+            CompletableFuture.delayedExecutor(waitNanos, TimeUnit.NANOSECONDS)
+                    .execute(() -> streamAttempt(model, gate, json, onDelta, result, attempt));
+            return;
+        }
+
+        DeltaSubscriber subscriber = new DeltaSubscriber(model, onDelta, result);
+        HttpResponse.BodyHandler<String> handler = info -> (info.statusCode() / 100 == 2)
+                ? HttpResponse.BodySubscribers.fromLineSubscriber(subscriber, DeltaSubscriber::answer, StandardCharsets.UTF_8, null)
+                : HttpResponse.BodySubscribers.ofString(StandardCharsets.UTF_8);
+
+        httpClient.sendAsync(request(chatUrl, gmsKey, json, true), handler)
+                .whenComplete((res, ex) -> {
+                    if (result.isDone()) return;
+                    if (ex == null && res.statusCode() / 100 == 2) {
+                        result.complete(res.body());
+                        return;
+                    }
+                    LlmException error = (ex != null)
+                            ? new LlmException("LLM 스트리밍 실패", 0, null, ex.getMessage(), ex)
+                            : error(res.statusCode(), res.body());
+                    if (error.isRetryable() && attempt < maxAttempts && !subscriber.started()) {
+                        Optional<String> retryAfter = (res == null) ? Optional.empty() : res.headers().firstValue("retry-after");
+                        CompletableFuture.delayedExecutor(backoffMillis(model, attempt, retryAfter), TimeUnit.MILLISECONDS)
+                                .execute(() -> streamAttempt(model, gate, json, onDelta, result, attempt + 1));
+                    } else {
+                        result.completeExceptionally(error);
+                    }
+                });
+    }
+
+    private HttpRequest request(String url, String apiKey, String json, boolean stream) {
+        return HttpRequest.newBuilder(URI.create(url))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Content-Type", "application/json")
+                .header("Accept", stream ? "text/event-stream" : "application/json")
+                .header("Authorization", "Bearer " + apiKey)
+                .POST(HttpRequest.BodyPublishers.ofString(json))
+                .build();
+    }
+
+    private Gate gate(String model) {
+        return gates.computeIfAbsent(model, m -> {
+            ModelLimit limit = LIMITS.getOrDefault(m, DEFAULT_LIMIT);
+            return new Gate(new Semaphore(limit.concurrency(), true), new TokenBucket(limit.requestsPerMinute()));
+        });
+    }
+
+    // 스트리밍용 동시 호출 자리 대기 (짧게 폴링, 스레드를 잡지 않음). deadline을 넘기면 429
+    private void acquireSlotAsync(Gate gate, long deadlineNanos, CompletableFuture<String> result, Runnable onAcquired) {
+        if (result.isDone()) return;
+        if (gate.semaphore().tryAcquire()) {
+            onAcquired.run();
+            return;
+        }
+        if (System.nanoTime() >= deadlineNanos) {
+            result.completeExceptionally(new LlmException("LLM 동시 호출 대기 초과", 429, "queue_timeout", null, null));
+            return;
+        }
+        CompletableFuture.delayedExecutor(STREAM_SLOT_POLL.toMillis(), TimeUnit.MILLISECONDS)
+                .execute(() -> acquireSlotAsync(gate, deadlineNanos, result, onAcquired));
+    }
+
+    // 지수 백오프(상한 BACKOFF_MAX) + 지터, Retry-After(초)가 더 길면 그걸 따름
+    private long backoffMillis(String model, int attempt, Optional<String> retryAfter) {
+        meterRegistry.counter("llm.retry", "model", model).increment();
+        long exp = Math.min(BACKOFF_MAX.toMillis(), backoffBase.toMillis() << Math.min(attempt - 1, 16));
+        long delay = exp / 2 + ThreadLocalRandom.current().nextLong(exp / 2 + 1);
+        long hinted = retryAfter.map(v -> {
+            try {
+                return Math.min(RETRY_AFTER_MAX.toMillis(), Long.parseLong(v.trim()) * 1000);
+            } catch (NumberFormatException e) {
+                return 0L;
+            }
+        }).orElse(0L);
+        long wait = Math.max(delay, hinted);
+        log.warn("[LLM] 재시도 대기 model={}, attempt={}, wait={}ms", model, attempt, wait);
+        return wait;
+    }
+
+    private String sha256(String s) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(s.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private JsonNode parse(String body) {
+        try {
+            return objectMapper.readTree(body);
+        } catch (JsonProcessingException e) {
+            throw new LlmException("LLM 응답 파싱 실패", 200, null, null, e);
+        }
+    }
+
+    private LlmException error(int status, String body) {
+        String code = null;
+        String message = body;
+        try {
+            JsonNode err = objectMapper.readTree(body).path("error");
+            code = err.path("code").asText(null);
+            message = err.path("message").asText(body);
+        } catch (Exception ignored) {
+            // JSON이 아닌 에러 바디는 그대로
+        }
+        return new LlmException("LLM 호출 실패", status, code, message, null);
+    }
+
+    private void record(String model, String op, boolean success, long startNanos) {
+        meterRegistry.timer("llm.call", "model", model, "op", op, "outcome", success ? "success" : "error")
+                .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    // chat은 prompt_tokens / completion_tokens, images는 input_tokens / output_tokens
+    private void recordUsage(String model, JsonNode usage) {
+        if (usage == null || usage.isMissingNode() || usage.isNull()) return;
+        meterRegistry.counter("llm.tokens", "model", model, "type", "prompt")
+                .increment(tokens(usage, "prompt_tokens", "input_tokens"));
+        meterRegistry.counter("llm.tokens", "model", model, "type", "completion")
+                .increment(tokens(usage, "completion_tokens", "output_tokens"));
+    }
+
+    private long tokens(JsonNode usage, String name, String alternative) {
+        return usage.has(name) ? usage.path(name).asLong(0) : usage.path(alternative).asLong(0);
+    }
+
+    /** SSE 응답 라인("data: {...}")에서 choices[0].delta.content만 꺼내 전달, 마지막 usage 청크는 메트릭으로 */
+    private final class DeltaSubscriber implements Flow.Subscriber<String> {
+        private final String model;
+        private final Consumer<String> onDelta;
+        private final CompletableFuture<String> result;
+        private final StringBuilder answer = new StringBuilder();
+        private volatile boolean started;
+
+        private DeltaSubscriber(String model, Consumer<String> onDelta, CompletableFuture<String> result) {
+            this.model = model;
+            this.onDelta = onDelta;
+            this.result = result;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            // 실패/취소(클라이언트 이탈 등)로 끝나면 남은 응답은 받지 않음
+            result.whenComplete((r, e) -> {
+                if (e != null) subscription.cancel();
+            });
+            subscription.request(Long.MAX_VALUE);
+        }
+
+        @Override
+        public void onNext(String line) {
+            if (result.isDone() || !line.startsWith("data:")) return;
+            String data = line.substring(5).trim();
+            if (data.isEmpty() || "[DONE]".equals(data)) return;
+            try {
+                JsonNode chunk = objectMapper.readTree(data);
+                recordUsage(model, chunk.path("usage"));
+                String delta = chunk.path("choices").path(0).path("delta").path("content").asText("");
+                if (delta.isEmpty()) return;
+                started = true;
+                answer.append(delta);
+                onDelta.accept(delta);
+            } catch (Exception e) {
+                // 파싱 실패 또는 클라이언트 연결 끊김 → 더 이상 전달하지 않음
+                result.completeExceptionally(e);
+            }
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            result.completeExceptionally(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            // 최종 완료는 sendAsync 결과(status 확인)에서 처리
+        }
+
+        boolean started() {
+            return started;
+        }
+
+        String answer() {
+            return answer.toString();
+        }
+    }
+}
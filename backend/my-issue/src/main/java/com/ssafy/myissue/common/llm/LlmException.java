@@ -0,0 +1,29 @@
+package com.ssafy.myissue.common.llm;
+
+import lombok.Getter;
+
+/**
+ * LLM(OpenAI 호환) API 호출 실패
+ *  - status: HTTP 상태 (네트워크 오류 등 응답이 없으면 0)
+ *  - errorCode / errorMessage: 응답 바디의 error.code / error.message (없으면 null)
+ */
+@Getter
+public class LlmException extends RuntimeException {
+
+    private final int status;
+    private final String errorCode;
+    private final String errorMessage;
+
+    public LlmException(String message, int status, String errorCode, String errorMessage, Throwable cause) {
+        super(message + " status=" + status
+                + (errorCode != null ? " code=" + errorCode : "")
+                + (errorMessage != null ? " msg=" + errorMessage : ""), cause);
+        this.status = status;
+        this.errorCode = errorCode;
+        this.errorMessage = errorMessage;
+    }
+
+    public boolean isRetryable() {
+        return status == 0 || status == 429 || status >= 500;
+    }
+}
@@ -0,0 +1,43 @@
+package com.ssafy.myissue.common.llm;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * LLM 결과 영구 저장소 한 건
+ *  - cacheKey = task:model:v{프롬프트 버전}:{입력 SHA-256}
+ *  - 입력이 같으면 재실행/백필에서도 LLM을 다시 부르지 않음
+ */
+@Entity
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "llm_result")
+public class LlmResult {
+
+    @Id
+    @Column(name = "cache_key", length = 200)
+    private String cacheKey;
+
+    @Column(nullable = false, length = 50)
+    private String task;
+
+    @Column(nullable = false, length = 50)
+    private String model;
+
+    @Column(name = "prompt_version", nullable = false)
+    private int promptVersion;
+
+    @Column(columnDefinition = "text", nullable = false)
+    private String result;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,87 @@
+package com.ssafy.myissue.common.llm;
+
+import com.ssafy.myissue.common.util.LruCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.function.Supplier;
+
+/**
+ * 입력 내용 해시 기반 LLM 결과 캐시 (요약/키워드처럼 입력이 같으면 결과를 다시 만들 필요 없는 작업용)
+ *  - 1차 in-process LRU, 2차 Postgres(llm_result) 영구 저장
+ *  - 프롬프트 템플릿을 바꾸면 호출부의 promptVersion을 올려서 이전 결과와 분리
+ *  - 메트릭: llm.result-cache{task,result=hit|miss}
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LlmResultCache {
+
+    private static final int LOCAL_MAX_ENTRIES = 1000;
+
+    private final LlmResultRepository llmResultRepository;
+    private final MeterRegistry meterRegistry;
+    private final LruCache<String, String> local = new LruCache<>(LOCAL_MAX_ENTRIES);
+
+    public String getOrCompute(String task, String model, int promptVersion, String input, Supplier<String> loader) {
+        String key = task + ":" + model + ":v" + promptVersion + ":" + sha256(input == null ? "" : input);
+
+        String hit = local.get(key);
+        if (hit == null) {
+            hit = llmResultRepository.findById(key).map(LlmResult::getResult).orElse(null);
+            if (hit != null) local.put(key, hit);
+        }
+        if (hit != null) {
+            meterRegistry.counter("llm.result-cache", "task", task, "result", "hit").increment();
+            return hit;
+        }
+
+        meterRegistry.counter("llm.result-cache", "task", task, "result", "miss").increment();
+        String result = loader.get();
+        store(key, task, model, promptVersion, result);
+        return result;
+    }
+
+    /** 결과가 잘못된 경우(파싱 실패 등) 다음 실행에서 다시 만들도록 제거 */
+    public void evict(String task, String model, int promptVersion, String input) {
+        String key = task + ":" + model + ":v" + promptVersion + ":" + sha256(input == null ? "" : input);
+        local.remove(key);
+        llmResultRepository.deleteById(key);
+    }
+
+    private void store(String key, String task, String model, int promptVersion, String result) {
+        if (result == null || result.isBlank()) return;
+        local.put(key, result);
+        try {
+            llmResultRepository.save(LlmResult.builder()
+                    .cacheKey(key)
+                    .task(task)
+                    .model(model)
+                    .promptVersion(promptVersion)
+                    .result(result)
+                    .createdAt(LocalDateTime.now())
+                    .build());
+        } catch (DataIntegrityViolationException e) {
+            // 다른 인스턴스가 먼저 저장 → 그대로 사용
+            log.debug("[LLM] 결과 중복 저장 무시: key={}", key);
+        } catch (RuntimeException e) {
+            log.warn("[LLM] 결과 저장 실패(캐시 없이 진행): key={}, msg={}", key, e.getMessage());
+        }
+    }
+
+    private String sha256(String s) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(s.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,6 @@
+package com.ssafy.myissue.common.llm;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface LlmResultRepository extends JpaRepository<LlmResult, String> {
+}
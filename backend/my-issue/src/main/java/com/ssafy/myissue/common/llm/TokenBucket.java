@@ -0,0 +1,46 @@
+package com.ssafy.myissue.common.llm;
+
+/**
+ * 분당 요청 수 제한용 토큰 버킷 (thread-safe)
+ *  - capacity만큼 버스트 허용, 이후 refillPerSecond 속도로 채워짐
+ *  - acquire()는 토큰이 생길 때까지 호출 스레드를 재움
+ *  - tryAcquire()는 재우지 않고 기다려야 할 시간만 알려줌 (스트리밍처럼 스레드를 잡으면 안 되는 경우)
+ */
+final class TokenBucket {
+
+    private final double capacity;
+    private final double refillPerNano;
+    private double tokens;
+    private long lastRefill;
+
+    TokenBucket(int requestsPerMinute) {
+        this.capacity = Math.max(1, requestsPerMinute);
+        this.refillPerNano = requestsPerMinute / 60_000_000_000.0;
+        this.tokens = capacity;
+        this.lastRefill = System.nanoTime();
+    }
+
+    void acquire() throws InterruptedException {
+        while (true) {
+            long waitNanos = tryAcquire();
+            if (waitNanos == 0) return;
+            Thread.sleep(waitNanos / 1_000_000, (int) (waitNanos % 1_000_000));
+        }
+    }
+
+    /** 토큰이 있으면 가져가고 0, 없으면 다음 토큰까지 남은 시간(ns, 1 이상) */
+    synchronized long tryAcquire() {
+        refill();
+        if (tokens >= 1) {
+            tokens -= 1;
+            return 0;
+        }
+        return Math.max(1, (long) Math.ceil((1 - tokens) / refillPerNano));
+    }
+
+    private void refill() {
+        long now = System.nanoTime();
+        tokens = Math.min(capacity, tokens + (now - lastRefill) * refillPerNano);
+        lastRefill = now;
+    }
+}
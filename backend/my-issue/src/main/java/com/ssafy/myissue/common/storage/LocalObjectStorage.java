@@ -0,0 +1,104 @@
+package com.ssafy.myissue.common.storage;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 로컬 파일시스템 스토리지 (storage.type=local, 오프라인 개발/테스트용)
+ *  - 임시 파일에 다 쓴 뒤 원자적으로 이동 → 읽는 쪽이 쓰다 만 파일을 보지 않음
+ *  - URL은 storage.local.base-url + "/" + key
+ *    root는 LocalStorageWebConfig가 /storage/** 로 서빙 → base-url은 이 서버의 /storage를 가리켜야 함 (기본값 그대로면 됨)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "storage.type", havingValue = "local")
+public class LocalObjectStorage implements ObjectStorage {
+
+    private final Path root;
+    private final String baseUrl;
+
+    public LocalObjectStorage(@Value("${storage.local.root:./storage}") String root,
+                              @Value("${storage.local.base-url:http://localhost:8080/storage}") String baseUrl) {
+        this.root = Path.of(root).toAbsolutePath().normalize();
+        this.baseUrl = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+    }
+
+    @Override
+    public CompletableFuture<String> upload(String key, String contentType, ContentWriter writer) {
+        Path target = resolve(key);
+        Path tmp = null;
+        try {
+            Files.createDirectories(target.getParent());
+            tmp = Files.createTempFile(target.getParent(), ".upload-", ".tmp");
+            try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(tmp))) {
+                writer.writeTo(out);
+            }
+            publish(tmp, target);
+            return CompletableFuture.completedFuture(url(key));
+        } catch (IOException e) {
+            throw new UncheckedIOException("로컬 저장 실패: " + key, e);
+        } finally {
+            deleteQuietly(tmp);
+        }
+    }
+
+    @Override
+    public CompletableFuture<String> upload(String key, String contentType, Path file) {
+        return CompletableFuture.supplyAsync(() -> {
+            Path target = resolve(key);
+            Path tmp = null;
+            try {
+                Files.createDirectories(target.getParent());
+                tmp = Files.createTempFile(target.getParent(), ".upload-", ".tmp");
+                Files.copy(file, tmp, StandardCopyOption.REPLACE_EXISTING);
+                publish(tmp, target);
+                return url(key);
+            } catch (IOException e) {
+                throw new UncheckedIOException("로컬 저장 실패: " + key, e);
+            } finally {
+                deleteQuietly(tmp);
+            }
+        });
+    }
+
+    @Override
+    public String url(String key) {
+        return baseUrl + "/" + key;
+    }
+
+    private void publish(Path tmp, Path target) throws IOException {
+        if (Files.size(tmp) == 0) {
+            throw new IllegalArgumentException("업로드할 파일 데이터가 비어 있습니다.");
+        }
+        Files.move(tmp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    // key로 root 밖을 가리키지 못하게 (../ 등)
+    private Path resolve(String key) {
+        Path target = root.resolve(key).normalize();
+        if (!target.startsWith(root) || target.equals(root)) {
+            throw new IllegalArgumentException("잘못된 저장 키: " + key);
+        }
+        return target;
+    }
+
+    private void deleteQuietly(Path tmp) {
+        if (tmp == null) return;
+        try {
+            Files.deleteIfExists(tmp);
+        } catch (IOException e) {
+            log.warn("[LocalObjectStorage] 임시 파일 삭제 실패: {}", tmp);
+        }
+    }
+}
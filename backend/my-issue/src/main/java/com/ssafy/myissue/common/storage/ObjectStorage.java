@@ -0,0 +1,28 @@
+package com.ssafy.myissue.common.storage;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 오브젝트 스토리지 공통 인터페이스 (S3 / 로컬 파일시스템, storage.type으로 선택)
+ *  - 스트림 업로드: writer는 호출 스레드에서 실행되고, 쌓인 파트는 백그라운드에서 병렬 업로드
+ *    writer 예외는 future가 아니라 호출부로 바로 던짐 (이미지 생성 실패 사유 판단 등)
+ *  - 파일 업로드: 전체를 백그라운드에서 (큰 파일은 파트 병렬)
+ *  - future는 객체가 완성되면 공개 URL로 완료
+ */
+public interface ObjectStorage {
+
+    /** 업로드할 내용을 out에 써주는 쪽 */
+    @FunctionalInterface
+    interface ContentWriter {
+        void writeTo(OutputStream out) throws IOException;
+    }
+
+    CompletableFuture<String> upload(String key, String contentType, ContentWriter writer);
+
+    CompletableFuture<String> upload(String key, String contentType, Path file);
+
+    String url(String key);
+}
@@ -0,0 +1,298 @@
+package com.ssafy.myissue.common.storage;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.AmazonServiceException;
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.AbortMultipartUploadRequest;
+import com.amazonaws.services.s3.model.CannedAccessControlList;
+import com.amazonaws.services.s3.model.CompleteMultipartUploadRequest;
+import com.amazonaws.services.s3.model.InitiateMultipartUploadRequest;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.PartETag;
+import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.model.UploadPartRequest;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
+
+/**
+ * S3 스토리지 (기본, storage.type=s3)
+ *  - 파트 크기(5MB) 이하면 단건 put, 넘으면 멀티파트 업로드 (업로드 1건당 파트 PARALLEL_PARTS개까지 동시에)
+ *  - put / 파트 / complete 호출마다 재시도 (5xx, 429, 네트워크 오류), 실패하면 멀티파트는 abort
+ *  - 스트림 업로드 메모리: 버퍼 1개 + 전송 중인 파트 PARALLEL_PARTS개
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "storage.type", havingValue = "s3", matchIfMissing = true)
+public class S3ObjectStorage implements ObjectStorage {
+
+    static final int PART_SIZE = 5 * 1024 * 1024; // S3 멀티파트 최소 파트 크기
+    private static final int INITIAL_BUFFER = 256 * 1024;
+    private static final int PARALLEL_PARTS = 4;
+    private static final int MAX_ATTEMPTS = 3;
+    private static final Duration BACKOFF_BASE = Duration.ofMillis(200);
+
+    private final AmazonS3 amazonS3;
+    private final String bucket;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    public S3ObjectStorage(AmazonS3 amazonS3, @Value("${cloud.aws.s3.bucket}") String bucket) {
+        this.amazonS3 = amazonS3;
+        this.bucket = bucket;
+    }
+
+    @Override
+    public CompletableFuture<String> upload(String key, String contentType, ContentWriter writer) {
+        PartOutputStream out = new PartOutputStream(key, contentType);
+        try {
+            writer.writeTo(out);
+        } catch (IOException e) {
+            out.abort();
+            throw new UncheckedIOException("S3 업로드 데이터 쓰기 실패: " + key, e);
+        } catch (RuntimeException e) {
+            out.abort();
+            throw e;
+        }
+        return out.complete();
+    }
+
+    @Override
+    public CompletableFuture<String> upload(String key, String contentType, Path file) {
+        return CompletableFuture.supplyAsync(() -> {
+            long size;
+            try {
+                size = Files.size(file);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            if (size == 0) throw new IllegalArgumentException("업로드할 파일 데이터가 비어 있습니다.");
+
+            if (size <= PART_SIZE) {
+                withRetry("put " + key, () -> amazonS3.putObject(new PutObjectRequest(bucket, key, file.toFile())
+                        .withMetadata(metadata(contentType, size))
+                        .withCannedAcl(CannedAccessControlList.PublicRead)));
+                return url(key);
+            }
+
+            String uploadId = initiate(key, contentType);
+            Semaphore permits = new Semaphore(PARALLEL_PARTS);
+            List<CompletableFuture<PartETag>> parts = new ArrayList<>();
+            try {
+                for (long offset = 0; offset < size; offset += PART_SIZE) {
+                    long partOffset = offset;
+                    long partSize = Math.min(PART_SIZE, size - offset);
+                    parts.add(uploadPart(key, uploadId, parts.size() + 1, () -> new UploadPartRequest()
+                            .withFile(file.toFile())
+                            .withFileOffset(partOffset)
+                            .withPartSize(partSize), permits));
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                abort(key, uploadId, parts);
+                throw new IllegalStateException("S3 업로드 중단: " + key, e);
+            }
+            return completeMultipart(key, uploadId, parts).join(); // 실패 시 abort까지 처리됨
+        }, executor);
+    }
+
+    @Override
+    public String url(String key) {
+        return amazonS3.getUrl(bucket, key).toString();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    // ================= 내부 =================
+
+    private ObjectMetadata metadata(String contentType, long length) {
+        ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentType(contentType);
+        if (length >= 0) metadata.setContentLength(length);
+        return metadata;
+    }
+
+    private String initiate(String key, String contentType) {
+        return withRetry("initiate " + key, () -> amazonS3.initiateMultipartUpload(
+                new InitiateMultipartUploadRequest(bucket, key, metadata(contentType, -1))
+                        .withCannedACL(CannedAccessControlList.PublicRead)).getUploadId());
+    }
+
+    // 동시에 전송 중인 파트 수 제한 (permits가 없으면 호출 스레드가 기다림 → 쓰는 쪽 속도 조절)
+    // request는 시도마다 새로 만듦 (이미 읽힌 스트림으로 재시도하지 않게)
+    private CompletableFuture<PartETag> uploadPart(String key, String uploadId, int partNumber,
+                                                  Supplier<UploadPartRequest> request, Semaphore permits)
+            throws InterruptedException {
+        permits.acquire();
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return withRetry("part " + partNumber + " " + key, () -> amazonS3.uploadPart(request.get()
+                        .withBucketName(bucket)
+                        .withKey(key)
+                        .withUploadId(uploadId)
+                        .withPartNumber(partNumber)).getPartETag());
+            } finally {
+                permits.release();
+            }
+        }, executor);
+    }
+
+    private CompletableFuture<String> completeMultipart(String key, String uploadId,
+                                                       List<CompletableFuture<PartETag>> parts) {
+        return CompletableFuture.allOf(parts.toArray(CompletableFuture[]::new))
+                .thenApplyAsync(v -> {
+                    List<PartETag> etags = parts.stream().map(CompletableFuture::join).toList();
+                    withRetry("complete " + key, () -> amazonS3.completeMultipartUpload(
+                            new CompleteMultipartUploadRequest(bucket, key, uploadId, new ArrayList<>(etags))));
+                    return url(key);
+                }, executor)
+                .whenComplete((url, e) -> {
+                    if (e != null) abort(key, uploadId, parts);
+                });
+    }
+
+    // 전송 중인 파트가 다 끝난 뒤 abort (도중에 abort하면 늦게 끝난 파트가 남을 수 있음)
+    private void abort(String key, String uploadId, List<CompletableFuture<PartETag>> parts) {
+        CompletableFuture.allOf(parts.toArray(CompletableFuture[]::new)).handle((v, e) -> {
+            try {
+                amazonS3.abortMultipartUpload(new AbortMultipartUploadRequest(bucket, key, uploadId));
+            } catch (RuntimeException ex) {
+                log.warn("[S3ObjectStorage] 멀티파트 abort 실패 key={}: {}", key, ex.getMessage());
+            }
+            return null;
+        });
+    }
+
+    private <T> T withRetry(String what, Supplier<T> call) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return call.get();
+            } catch (AmazonClientException e) {
+                if (attempt >= MAX_ATTEMPTS || !retryable(e)) throw e;
+                long wait = BACKOFF_BASE.toMillis() << (attempt - 1);
+                log.warn("[S3ObjectStorage] {} 재시도 attempt={}, wait={}ms: {}", what, attempt, wait, e.getMessage());
+                try {
+                    Thread.sleep(wait);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    throw e;
+                }
+            }
+        }
+    }
+
+    private boolean retryable(AmazonClientException e) {
+        if (e instanceof AmazonServiceException se) {
+            return se.getStatusCode() >= 500 || se.getStatusCode() == 429;
+        }
+        return e.isRetryable();
+    }
+
+    /** 파트 크기만큼 모이면 파트를 백그라운드로 올리는 OutputStream (close 대신 complete/abort로 끝냄) */
+    private final class PartOutputStream extends OutputStream {
+
+        private final String key;
+        private final String contentType;
+        private final Semaphore permits = new Semaphore(PARALLEL_PARTS);
+        private final List<CompletableFuture<PartETag>> parts = new ArrayList<>();
+        private byte[] buf = new byte[INITIAL_BUFFER];
+        private int count;
+        private String uploadId;
+
+        PartOutputStream(String key, String contentType) {
+            this.key = key;
+            this.contentType = contentType;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            if (count == PART_SIZE) flushPart();
+            ensureCapacity(count + 1);
+            buf[count++] = (byte) b;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            while (len > 0) {
+                if (count == PART_SIZE) flushPart();
+                int n = Math.min(len, PART_SIZE - count);
+                ensureCapacity(count + n);
+                System.arraycopy(b, off, buf, count, n);
+                count += n;
+                off += n;
+                len -= n;
+            }
+        }
+
+        CompletableFuture<String> complete() {
+            if (uploadId == null) {
+                if (count == 0) {
+                    throw new IllegalArgumentException("업로드할 파일 데이터가 비어 있습니다.");
+                }
+                byte[] data = buf;
+                int length = count;
+                return CompletableFuture.supplyAsync(() -> {
+                    withRetry("put " + key, () -> amazonS3.putObject(new PutObjectRequest(bucket, key,
+                            new ByteArrayInputStream(data, 0, length), metadata(contentType, length))
+                            .withCannedAcl(CannedAccessControlList.PublicRead)));
+                    return url(key);
+                }, executor);
+            }
+            try {
+                if (count > 0) flushPart();
+            } catch (IOException e) {
+                abort();
+                return CompletableFuture.failedFuture(e);
+            }
+            return completeMultipart(key, uploadId, parts);
+        }
+
+        void abort() {
+            if (uploadId != null) S3ObjectStorage.this.abort(key, uploadId, parts);
+        }
+
+        private void flushPart() throws IOException {
+            if (uploadId == null) uploadId = initiate(key, contentType);
+
+            // 버퍼는 전송 중인 파트가 들고 가고 새 버퍼로 계속 씀
+            byte[] data = buf;
+            int length = count;
+            try {
+                parts.add(uploadPart(key, uploadId, parts.size() + 1, () -> new UploadPartRequest()
+                        .withInputStream(new ByteArrayInputStream(data, 0, length))
+                        .withPartSize(length), permits));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("S3 업로드 중단: " + key);
+            }
+            buf = new byte[INITIAL_BUFFER];
+            count = 0;
+        }
+
+        private void ensureCapacity(int needed) {
+            if (needed <= buf.length) return;
+            buf = Arrays.copyOf(buf, Math.min(PART_SIZE, Math.max(needed, buf.length * 2)));
+        }
+    }
+}
@@ -1,58 +1,211 @@
 package com.ssafy.myissue.common.util;
 
-import javax.sound.sampled.AudioFileFormat;
-import javax.sound.sampled.AudioFormat;
-import javax.sound.sampled.AudioInputStream;
-import javax.sound.sampled.AudioSystem;
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
-import java.io.InputStream;
-import java.io.SequenceInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
 
+/**
+ * WAV 유틸 (RIFF 헤더를 직접 읽고 씀, 오디오 스트림은 열지 않음)
+ *  - 길이: fmt / data 청크 헤더만 읽어서 계산
+ *  - 합치기: 각 파일의 PCM 데이터만 FileChannel.transferTo로 결과 파일에 이어 붙이고 마지막에 헤더 크기만 채움
+ *    → 메모리 사용은 파일 크기와 무관, 데이터 복사는 1번 (리눅스에선 커널 안에서 복사)
+ *  - 결과 헤더: PCM은 표준 44바이트, IEEE float는 fmt(cbSize 포함 18바이트) + fact 청크 (비PCM 포맷 필수 청크)
+ *    WAVE_FORMAT_EXTENSIBLE 입력은 SubFormat(PCM/float) 기준으로 일반 헤더로 씀
+ */
 public class AudioUtils {
-    // WAV 파일의 길이를 초 단위로 반환
-    public static double getWavDurationinSeconds(byte[] wavBytes) {
-        try (
-                InputStream byteArrayInputStream = new ByteArrayInputStream(wavBytes); // 바이트 배열을 InputStream으로 변환
-                AudioInputStream audioInputStream = AudioSystem.getAudioInputStream(byteArrayInputStream)) // InputStream을 해석해서 오디오 스트림
-        {
-            // AudioFormat : 오디오 데이터의 형식에 대한 정보(샘플링 레이트, 비트 깊이, 채널 수 등)
-            AudioFormat format = audioInputStream.getFormat();
-            long frames = audioInputStream.getFrameLength(); // 전체 오디오 스트림이 몇 개의 프레임(샘플 단위 묶음)으로 되어 있는지 반환.
-            return (frames + 0.0) / format.getFrameRate(); // 전체 프레임 수(long 변환) ÷ 초당 프레임 수 = 전체 길이(초)
-        } catch (Exception e) {
-            throw new RuntimeException("WAV 길이 계산 실패", e);
-        }
-    }
-
-    // WAV 파일 합치기
-    public static byte[] mergeWavFiles(List<byte[]> wavFiles){
-        try {
-            List<AudioInputStream> audioStream = new ArrayList<>();
-
-            // 입력된 bytes[] 리스트를 AudioInputStream 리스트로 변환
-            for(byte[] wav : wavFiles){
-                audioStream.add(AudioSystem.getAudioInputStream(new ByteArrayInputStream(wav)));
+
+    private static final int PCM_HEADER_SIZE = 44;   // RIFF(12) + fmt(8 + 16) + data(8)
+    private static final int FLOAT_HEADER_SIZE = 58; // RIFF(12) + fmt(8 + 18) + fact(8 + 4) + data(8)
+
+    private static final int FORMAT_PCM = 1;
+    private static final int FORMAT_IEEE_FLOAT = 3;
+    private static final int FORMAT_EXTENSIBLE = 0xFFFE;
+
+    /** fmt 청크 정보 + data 청크 위치/크기 */
+    public record WavHeader(int formatTag, int channels, int sampleRate, int blockAlign, int bitsPerSample,
+                            long dataOffset, long dataSize) {
+
+        public double durationSeconds() {
+            return (double) dataSize / ((long) sampleRate * blockAlign);
+        }
+
+        // 이어 붙여도 되는지 (데이터 크기/위치 제외 전부 같아야 함)
+        public boolean sameFormat(WavHeader other) {
+            return formatTag == other.formatTag && channels == other.channels && sampleRate == other.sampleRate
+                    && blockAlign == other.blockAlign && bitsPerSample == other.bitsPerSample;
+        }
+    }
+
+    // WAV 파일의 길이를 초 단위로 반환 (헤더만 읽음)
+    public static double getWavDurationinSeconds(Path wav) {
+        return readHeader(wav).durationSeconds();
+    }
+
+    public static WavHeader readHeader(Path wav) {
+        try (FileChannel channel = FileChannel.open(wav, StandardOpenOption.READ)) {
+            return readHeader(channel);
+        } catch (IOException e) {
+            throw new UncheckedIOException("WAV 헤더 읽기 실패: " + wav, e);
+        }
+    }
+
+    /**
+     * WAV 파일 합치기 (parts 순서대로 target에 씀)
+     *  - 모든 파일이 같은 포맷이어야 함 (다르면 IllegalArgumentException)
+     *  - 반환: 결과 파일 헤더
+     */
+    public static WavHeader mergeWavFiles(List<Path> parts, Path target) {
+        if (parts.isEmpty()) throw new IllegalArgumentException("합칠 WAV 파일이 없습니다.");
+
+        // 헤더만 먼저 전부 읽어서 포맷 확인 (결과 파일을 쓰기 전에 실패)
+        List<WavHeader> headers = new ArrayList<>(parts.size());
+        long dataSize = 0;
+        for (Path part : parts) {
+            WavHeader header = readHeader(part);
+            if (!headers.isEmpty() && !headers.get(0).sameFormat(header)) {
+                throw new IllegalArgumentException("WAV 포맷이 다릅니다: " + part + " " + header + " / 기준 " + headers.get(0));
+            }
+            headers.add(header);
+            dataSize += header.dataSize();
+        }
+        WavHeader first = headers.get(0);
+        int headerSize = headerSize(first);
+        if (dataSize > 0xFFFFFFFFL - (headerSize - 8)) { // RIFF 크기 필드가 32비트
+            throw new IllegalArgumentException("WAV 최대 크기(4GB) 초과: " + dataSize);
+        }
+
+        try (FileChannel out = FileChannel.open(target, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            out.position(headerSize); // 헤더 자리는 비워두고 데이터부터
+            for (int i = 0; i < parts.size(); i++) {
+                try (FileChannel in = FileChannel.open(parts.get(i), StandardOpenOption.READ)) {
+                    transferFully(in, headers.get(i).dataOffset(), headers.get(i).dataSize(), out);
+                }
+            }
+
+            ByteBuffer header = header(first, dataSize);
+            while (header.hasRemaining()) {
+                out.write(header, header.position());
             }
+            return new WavHeader(first.formatTag(), first.channels(), first.sampleRate(), first.blockAlign(),
+                    first.bitsPerSample(), headerSize, dataSize);
+        } catch (IOException e) {
+            throw new UncheckedIOException("WAV 파일 합치기 실패", e);
+        }
+    }
+
+    // ================= 내부 =================
+
+    private static WavHeader readHeader(FileChannel channel) throws IOException {
+        long fileSize = channel.size();
+        ByteBuffer riff = read(channel, 0, 12);
+        if (!"RIFF".equals(fourCc(riff, 0)) || !"WAVE".equals(fourCc(riff, 8))) {
+            throw new IllegalArgumentException("WAV 파일이 아닙니다.");
+        }
+
+        ByteBuffer fmt = null;
+        long pos = 12;
+        while (pos + 8 <= fileSize) {
+            ByteBuffer chunk = read(channel, pos, 8);
+            String id = fourCc(chunk, 0);
+            long size = Integer.toUnsignedLong(chunk.getInt(4));
+
+            if ("fmt ".equals(id)) {
+                if (size < 16) throw new IllegalArgumentException("fmt 청크가 너무 짧습니다: " + size);
+                fmt = read(channel, pos + 8, (int) Math.min(size, 40));
+            } else if ("data".equals(id)) {
+                if (fmt == null) throw new IllegalArgumentException("fmt 청크가 data 청크보다 뒤에 있습니다.");
+                long offset = pos + 8;
+                // 스트리밍으로 쓴 파일은 크기 필드가 0 / 0xFFFFFFFF로 남아 있음 → 실제 파일 끝까지
+                if (size == 0 || size == 0xFFFFFFFFL || offset + size > fileSize) size = fileSize - offset;
+                return header(fmt, offset, size);
+            }
+            pos += 8 + size + (size & 1); // 청크는 짝수 바이트 단위로 패딩
+        }
+        throw new IllegalArgumentException("data 청크가 없습니다.");
+    }
+
+    private static WavHeader header(ByteBuffer fmt, long dataOffset, long dataSize) {
+        int formatTag = Short.toUnsignedInt(fmt.getShort(0));
+        if (formatTag == FORMAT_EXTENSIBLE && fmt.limit() >= 26) {
+            formatTag = Short.toUnsignedInt(fmt.getShort(24)); // SubFormat GUID 앞 2바이트
+        }
+        if (formatTag != FORMAT_PCM && formatTag != FORMAT_IEEE_FLOAT) {
+            throw new IllegalArgumentException("지원하지 않는 WAV 포맷: " + formatTag);
+        }
+        int channels = Short.toUnsignedInt(fmt.getShort(2));
+        int sampleRate = fmt.getInt(4);
+        int blockAlign = Short.toUnsignedInt(fmt.getShort(12));
+        int bitsPerSample = Short.toUnsignedInt(fmt.getShort(14));
+        if (channels == 0 || sampleRate <= 0 || blockAlign == 0) {
+            throw new IllegalArgumentException("잘못된 WAV 포맷: channels=" + channels + ", sampleRate=" + sampleRate);
+        }
+        // 잘린 마지막 프레임은 버림 (이어 붙였을 때 채널이 밀리지 않게)
+        return new WavHeader(formatTag, channels, sampleRate, blockAlign, bitsPerSample,
+                dataOffset, dataSize - dataSize % blockAlign);
+    }
+
+    private static int headerSize(WavHeader format) {
+        return format.formatTag() == FORMAT_IEEE_FLOAT ? FLOAT_HEADER_SIZE : PCM_HEADER_SIZE;
+    }
+
+    // PCM: 표준 44바이트 헤더 / IEEE float: fmt에 cbSize(0) + fact(채널당 샘플 수) 추가
+    private static ByteBuffer header(WavHeader format, long dataSize) {
+        boolean isFloat = format.formatTag() == FORMAT_IEEE_FLOAT;
+        int headerSize = headerSize(format);
+        ByteBuffer buf = ByteBuffer.allocate(headerSize).order(ByteOrder.LITTLE_ENDIAN);
+        buf.put("RIFF".getBytes(StandardCharsets.US_ASCII));
+        buf.putInt((int) (headerSize - 8 + dataSize));
+        buf.put("WAVE".getBytes(StandardCharsets.US_ASCII));
+        buf.put("fmt ".getBytes(StandardCharsets.US_ASCII));
+        buf.putInt(isFloat ? 18 : 16);
+        buf.putShort((short) format.formatTag());
+        buf.putShort((short) format.channels());
+        buf.putInt(format.sampleRate());
+        buf.putInt(format.sampleRate() * format.blockAlign());
+        buf.putShort((short) format.blockAlign());
+        buf.putShort((short) format.bitsPerSample());
+        if (isFloat) {
+            buf.putShort((short) 0); // cbSize
+            buf.put("fact".getBytes(StandardCharsets.US_ASCII));
+            buf.putInt(4);
+            buf.putInt((int) (dataSize / format.blockAlign()));
+        }
+        buf.put("data".getBytes(StandardCharsets.US_ASCII));
+        buf.putInt((int) dataSize);
+        return buf.flip();
+    }
+
+    private static ByteBuffer read(FileChannel channel, long position, int length) throws IOException {
+        ByteBuffer buf = ByteBuffer.allocate(length).order(ByteOrder.LITTLE_ENDIAN);
+        while (buf.hasRemaining()) {
+            if (channel.read(buf, position + buf.position()) < 0) {
+                throw new IllegalArgumentException("WAV 헤더가 잘렸습니다.");
+            }
+        }
+        return buf.flip();
+    }
+
+    private static String fourCc(ByteBuffer buf, int index) {
+        byte[] id = new byte[4];
+        buf.get(index, id);
+        return new String(id, StandardCharsets.US_ASCII);
+    }
 
-            AudioFormat format = audioStream.get(0).getFormat(); // 첫 번째 WAV 파일의 오디오 포맷 정보를 가져옴. ( 모든 파일이 같은 포맷이어야 정상 작동 )
-            AudioInputStream appendedFiles = new AudioInputStream(
-                new SequenceInputStream(Collections.enumeration(audioStream.stream()
-                        .map(s -> (InputStream) s)
-                        .toList())),
-                    format,
-                    audioStream.stream().mapToLong(AudioInputStream::getFrameLength).sum()
-            );
-
-            ByteArrayOutputStream baos = new ByteArrayOutputStream(); // byte[]
-            AudioSystem.write(appendedFiles, AudioFileFormat.Type.WAVE, baos); // AudioInputStream을 WAV 형식으로 씀
-            return baos.toByteArray();
-
-        } catch (Exception e) {
-            throw new RuntimeException("WAV 파일 합치기 실패", e);
+    // transferTo는 요청보다 적게 보낼 수 있음 → 다 보낼 때까지 반복
+    private static void transferFully(FileChannel in, long position, long count, FileChannel out) throws IOException {
+        while (count > 0) {
+            long n = in.transferTo(position, count, out);
+            if (n <= 0) throw new IOException("WAV 데이터 복사 중 파일이 끝났습니다.");
+            position += n;
+            count -= n;
         }
     }
 }
@@ -0,0 +1,107 @@
+package com.ssafy.myissue.common.util;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 작은 문서 묶음(기사 한 건의 청크들)용 in-memory BM25 인덱스 (불변, thread-safe)
+ *  - 토큰: 한글은 음절 bigram(조사/어미가 붙어도 어간이 겹치도록), 영문/숫자는 단어 단위
+ *  - 형태소 분석기(nori) 없이도 짧은 한국어 질의-문단 매칭에는 충분함
+ */
+public final class Bm25Index {
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    // 질문 문형에서 자주 나오는 bigram (점수에 노이즈만 줌)
+    private static final Set<String> STOP_BIGRAMS = Set.of(
+            "알려", "려줘", "해줘", "뭐야", "무엇", "어떻", "떻게", "설명", "인가", "있어", "나요", "까요", "는지", "은지"
+    );
+
+    private final List<Map<String, Integer>> termFreqs;
+    private final int[] lengths;
+    private final Map<String, Integer> docFreqs = new HashMap<>();
+    private final double avgLength;
+
+    private Bm25Index(List<String> docs) {
+        this.termFreqs = new ArrayList<>(docs.size());
+        this.lengths = new int[docs.size()];
+        long total = 0;
+        for (int i = 0; i < docs.size(); i++) {
+            List<String> tokens = tokenize(docs.get(i));
+            Map<String, Integer> tf = new HashMap<>();
+            for (String t : tokens) tf.merge(t, 1, Integer::sum);
+            for (String t : tf.keySet()) docFreqs.merge(t, 1, Integer::sum);
+            termFreqs.add(tf);
+            lengths[i] = tokens.size();
+            total += tokens.size();
+        }
+        this.avgLength = docs.isEmpty() ? 0 : Math.max(1.0, (double) total / docs.size());
+    }
+
+    public static Bm25Index of(List<String> docs) {
+        return new Bm25Index(docs);
+    }
+
+    public int size() {
+        return lengths.length;
+    }
+
+    /** 문서별 BM25 점수 (인덱스 = 입력 문서 순서). 질의 토큰이 하나도 안 겹치면 전부 0 */
+    public double[] score(String query) {
+        double[] scores = new double[lengths.length];
+        int n = lengths.length;
+        for (String term : new LinkedHashSet<>(tokenize(query))) {
+            Integer df = docFreqs.get(term);
+            if (df == null) continue;
+            double idf = Math.log(1 + (n - df + 0.5) / (df + 0.5));
+            for (int i = 0; i < n; i++) {
+                Integer f = termFreqs.get(i).get(term);
+                if (f == null) continue;
+                double norm = K1 * (1 - B + B * lengths[i] / avgLength);
+                scores[i] += idf * (f * (K1 + 1)) / (f + norm);
+            }
+        }
+        return scores;
+    }
+
+    /** 한글 음절 bigram + 영문/숫자 단어 */
+    static List<String> tokenize(String text) {
+        List<String> out = new ArrayList<>();
+        if (text == null || text.isEmpty()) return out;
+        String s = text.toLowerCase(Locale.ROOT);
+
+        int i = 0, len = s.length();
+        while (i < len) {
+            char c = s.charAt(i);
+            if (isHangul(c)) {
+                int start = i;
+                while (i < len && isHangul(s.charAt(i))) i++;
+                if (i - start == 1) {
+                    out.add(s.substring(start, i));
+                } else {
+                    for (int j = start; j + 1 < i; j++) {
+                        String bigram = s.substring(j, j + 2);
+                        if (!STOP_BIGRAMS.contains(bigram)) out.add(bigram);
+                    }
+                }
+            } else if (Character.isLetterOrDigit(c)) {
+                int start = i;
+                while (i < len && Character.isLetterOrDigit(s.charAt(i)) && !isHangul(s.charAt(i))) i++;
+                if (i - start >= 2 || Character.isDigit(c)) out.add(s.substring(start, i));
+            } else {
+                i++;
+            }
+        }
+        return out;
+    }
+
+    private static boolean isHangul(char c) {
+        return c >= '가' && c <= '힣';
+    }
+}
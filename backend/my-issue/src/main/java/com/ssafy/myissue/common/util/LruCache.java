@@ -0,0 +1,40 @@
+package com.ssafy.myissue.common.util;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 크기 제한 in-process LRU 캐시 (thread-safe)
+ *  - LinkedHashMap(accessOrder = true) + removeEldestEntry로 가장 오래 안 쓴 항목부터 제거
+ *  - 여러 노드 간 공유가 필요하면 Redis를 뒤에 두고 1차 캐시로만 사용
+ */
+public class LruCache<K, V> {
+
+    private final Map<K, V> map;
+
+    public LruCache(int maxSize) {
+        if (maxSize <= 0) throw new IllegalArgumentException("maxSize는 1 이상이어야 합니다.");
+        this.map = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    public synchronized V get(K key) {
+        return map.get(key);
+    }
+
+    public synchronized void put(K key, V value) {
+        map.put(key, value);
+    }
+
+    public synchronized void remove(K key) {
+        map.remove(key);
+    }
+
+    public synchronized int size() {
+        return map.size();
+    }
+}
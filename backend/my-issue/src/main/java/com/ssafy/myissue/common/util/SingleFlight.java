@@ -0,0 +1,65 @@
+package com.ssafy.myissue.common.util;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 같은 키의 동시 호출을 1번의 실제 호출로 합침 (single-flight)
+ *  - 먼저 들어온 호출만 loader 실행, 나머지는 그 결과(또는 예외)를 같이 받음
+ *  - resultTtl > 0 이면 성공 결과를 그 시간 동안 더 공유 (직후 재시도/중복 요청 흡수), 실패는 바로 제거
+ */
+public class SingleFlight<V> {
+
+    private final ConcurrentHashMap<String, CompletableFuture<V>> calls = new ConcurrentHashMap<>();
+    private final Duration resultTtl;
+
+    public SingleFlight(Duration resultTtl) {
+        this.resultTtl = resultTtl;
+    }
+
+    /** @param onShared 다른 호출 결과를 공유받았을 때 (메트릭용) */
+    public V execute(String key, Supplier<V> loader, Runnable onShared) {
+        CompletableFuture<V> mine = new CompletableFuture<>();
+        CompletableFuture<V> existing = calls.putIfAbsent(key, mine);
+        if (existing != null) {
+            onShared.run();
+            return await(existing);
+        }
+
+        boolean success = false;
+        try {
+            V value = loader.get();
+            mine.complete(value);
+            success = true;
+            return value;
+        } catch (RuntimeException | Error e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            if (success && !resultTtl.isZero()) {
+                CompletableFuture.delayedExecutor(resultTtl.toMillis(), TimeUnit.MILLISECONDS)
+                        .execute(() -> calls.remove(key, mine));
+            } else {
+                calls.remove(key, mine);
+            }
+        }
+    }
+
+    public int inFlight() {
+        return calls.size();
+    }
+
+    private V await(CompletableFuture<V> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException re) throw re;
+            if (e.getCause() instanceof Error err) throw err;
+            throw e;
+        }
+    }
+}
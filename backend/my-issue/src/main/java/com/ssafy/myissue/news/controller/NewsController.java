@@ -9,9 +9,11 @@ import com.ssafy.myissue.common.exception.CustomException;
 import com.ssafy.myissue.common.exception.ErrorCode;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import com.ssafy.myissue.news.service.NewsChatService;
 
 
@@ -37,7 +39,7 @@ public class NewsController {
 
     /** HOT 전체 (무한 스크롤) */
     @GetMapping("/hot")
-    public ResponseEntity<CursorPage<NewsCardResponse>> getHot(@RequestParam(value = "cursor", required = false) String cursor, @RequestParam(value = "size", required = false, defaultValue = "20") Integer size
+    public ResponseEntity<CursorPage<RawJson>> getHot(@RequestParam(value = "cursor", required = false) String cursor, @RequestParam(value = "size", required = false, defaultValue = "20") Integer size
     ) {
         return ResponseEntity.ok(newsService.getHotByRedis(cursor, safeSize(size, 20, 50)));
     }
@@ -117,6 +119,19 @@ public class NewsController {
         );
     }
 
+    /** 뉴스 챗봇 스트리밍 (event: session → delta... → done) */
+    @PostMapping(value = "/{newsId}/chat/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamChatAboutNews(
+            @PathVariable Long newsId,
+            @RequestBody ChatQuestionRequest req,
+            @RequestParam(value = "sid", required = false) String sid
+    ) {
+        if (req == null || req.question() == null || req.question().isBlank()) {
+            throw new CustomException(ErrorCode.INVALID_PARAMETER);
+        }
+        return newsChatService.streamAboutNews(newsId, req.question(), sid);
+    }
+
     // ---------- helpers ----------
 
     /** size 하한/상한 고정 */
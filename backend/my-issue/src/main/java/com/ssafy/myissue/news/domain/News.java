@@ -16,8 +16,9 @@ import org.hibernate.annotations.Formula;
                 // 최신 뉴스 전체 조회 무한 스크롤 ㄱㄴ
                 @Index(name = "idx_news_views_created", columnList = "views, created_at, id"),
                 // HOT 뉴스 전체 조회 무한 스크롤 ㄱㄴ
-                @Index(name = "idx_news_category_cursor", columnList = "category, id")
-                // 카테고리별 뉴스 전체 조회 무한 스크롤 ㄱㄴ
+                @Index(name = "idx_news_category_created", columnList = "category, created_at, id")
+                // 카테고리별 뉴스 전체 조회 무한 스크롤 ㄱㄴ (정렬 키 created_at desc, id desc와 일치해야 정렬 없이 LIMIT)
+                // 기존 idx_news_category_cursor(category, id)는 ddl-auto update로 삭제되지 않으므로 DB에서 직접 DROP
         }
 )
 public class News {
@@ -58,6 +59,10 @@ public class News {
     @Column(nullable = true)
     private int scrapCount = 0;
 
+    // 적재 후 NewsSummaryService가 비동기로 채움 (네컷/팟캐스트/푸시/챗봇 공용, 없으면 null)
+    @Column(columnDefinition = "text")
+    private String summary;
+
     public void increaseScrapCount() { this.scrapCount++; }
     public void decreaseScrapCount() { this.scrapCount--; }
     public void increaseViews() { this.views++; }
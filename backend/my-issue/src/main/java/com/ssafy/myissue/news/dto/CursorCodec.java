@@ -1,35 +1,227 @@
 package com.ssafy.myissue.news.dto;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Arrays;
 import java.util.Base64;
 
-/** Base64(JSON) 커서 인/디코더 유틸 */
+/**
+ * 서명된 바이너리 커서 인/디코더 유틸
+ *  형식: [버전(4bit)|타입 태그(4bit)] [필드들(varint/zigzag, double은 8바이트)] [HMAC-SHA256 앞 6바이트]
+ *  → URL-세이프 Base64(패딩 없음). 예) LatestCursor: 기존 Base64(JSON) 58자 → 20자
+ *  서명이 틀리면 필드 해석 전에 바로 거절. 예전 Base64(JSON) 커서도 서명이 없으므로 거절 (클라이언트는 첫 페이지부터 다시)
+ */
 public final class CursorCodec {
-    private static final ObjectMapper M = new ObjectMapper();
+    private static final int VERSION = 1;
+    private static final int MAC_LENGTH = 6;
+    private static final int MAX_LENGTH = 64; // 가장 긴 커서(SearchAfterCursor)도 30바이트 미만
+
+    private static final int TAG_LATEST = 1;
+    private static final int TAG_HOT = 2;
+    private static final int TAG_HOT_OFFSET = 3;
+    private static final int TAG_ID = 4;
+    private static final int TAG_SCRAP = 5;
+    private static final int TAG_RECOMMEND_OFFSET = 6;
+    private static final int TAG_SEARCH_AFTER = 7;
+
+    // 설정 전(테스트 등)에는 프로세스별 임의 키 → 재시작 시 커서 무효화될 뿐 위조는 불가
+    private static volatile SecretKeySpec key = new SecretKeySpec(randomBytes(), "HmacSHA256");
+    private static final ThreadLocal<KeyedMac> MAC = new ThreadLocal<>();
+
     private CursorCodec() {}
 
-    /** 객체 -> JSON 바이트 -> URL-세이프 Base64 문자열
-     * 쿼리 스트링에 넣기 좋게 +/= 제거와 대체. 패딩 제거함*/
-    public static String encode(Object obj) {
+    /** 서명 키 설정 (CursorConfig에서 기동 시 1회 호출). 다른 용도의 비밀값을 그대로 쓰지 않도록 커서 전용 키로 파생 */
+    public static void configure(byte[] secret) {
+        if (secret == null || secret.length < 16) throw new IllegalArgumentException("cursor secret too short");
         try {
-            byte[] json = M.writeValueAsBytes(obj);
-            return Base64.getUrlEncoder().withoutPadding().encodeToString(json);
+            Mac kdf = Mac.getInstance("HmacSHA256");
+            kdf.init(new SecretKeySpec(secret, "HmacSHA256"));
+            key = new SecretKeySpec(kdf.doFinal("myissue-cursor-v1".getBytes(StandardCharsets.UTF_8)), "HmacSHA256");
         } catch (Exception e) {
-            throw new IllegalArgumentException("cursor encode error", e);
+            throw new IllegalStateException("cursor key derivation error", e);
         }
     }
 
-    /** URL-세이프 Base64 문자열 -> JSON 바이트 -> 객체 */
+    /** 커서 객체 -> 바이너리 + HMAC -> URL-세이프 Base64 문자열 */
+    public static String encode(Object obj) {
+        Writer w = new Writer();
+        if (obj instanceof LatestCursor c) {
+            w.header(TAG_LATEST).varint(c.createdAtSec()).varint(c.newsId());
+        } else if (obj instanceof HotCursor c) {
+            w.header(TAG_HOT).varint(c.views()).varint(c.createdAtSec()).varint(c.newsId());
+        } else if (obj instanceof HotZOffsetCursor c) {
+            w.header(TAG_HOT_OFFSET).varint(c.offset());
+        } else if (obj instanceof IdCursor c) {
+            w.header(TAG_ID).varint(c.lastId());
+        } else if (obj instanceof ScrapCursor c) {
+            w.header(TAG_SCRAP).varint(c.scrapId());
+        } else if (obj instanceof RecommendListOffsetCursor c) {
+            w.header(TAG_RECOMMEND_OFFSET).varint(c.offset());
+        } else if (obj instanceof SearchAfterCursor c) {
+            // null 허용 필드 → 존재 비트마스크 1바이트
+            int present = (c.score() != null ? 1 : 0) | (c.createdAtSec() != null ? 2 : 0) | (c.newsId() != null ? 4 : 0);
+            w.header(TAG_SEARCH_AFTER).raw(present);
+            if (c.score() != null) w.fixed64(Double.doubleToLongBits(c.score()));
+            if (c.createdAtSec() != null) w.varint(c.createdAtSec());
+            if (c.newsId() != null) w.varint(c.newsId());
+        } else {
+            throw new IllegalArgumentException("cursor encode error: unsupported type " + (obj == null ? null : obj.getClass()));
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(w.sign());
+    }
+
+    /** URL-세이프 Base64 문자열 -> 서명 검증 -> 커서 객체 */
+    @SuppressWarnings("unchecked")
     public static <T> T decode(String cursor, Class<T> type) {
+        byte[] bytes;
         try {
-            byte[] json = Base64.getUrlDecoder().decode(cursor.getBytes(StandardCharsets.UTF_8));
-            return M.readValue(json, type);
+            bytes = Base64.getUrlDecoder().decode(cursor);
         } catch (Exception e) {
             throw new IllegalArgumentException("cursor decode error", e);
         }
+        if (bytes.length < 1 + MAC_LENGTH || bytes.length > MAX_LENGTH) {
+            throw new IllegalArgumentException("cursor decode error: bad length");
+        }
+
+        int bodyLength = bytes.length - MAC_LENGTH;
+        byte[] expected = mac(bytes, bodyLength);
+        if (!MessageDigest.isEqual(Arrays.copyOf(expected, MAC_LENGTH), Arrays.copyOfRange(bytes, bodyLength, bytes.length))) {
+            throw new IllegalArgumentException("cursor decode error: bad signature");
+        }
+
+        Reader r = new Reader(bytes, bodyLength);
+        int header = r.raw();
+        if ((header >>> 4) != VERSION) throw new IllegalArgumentException("cursor decode error: bad version");
+        int tag = header & 0x0F;
+
+        Object value;
+        try {
+            value = switch (tag) {
+                case TAG_LATEST -> new LatestCursor(r.varint(), r.varint());
+                case TAG_HOT -> new HotCursor((int) r.varint(), r.varint(), r.varint());
+                case TAG_HOT_OFFSET -> new HotZOffsetCursor((int) r.varint());
+                case TAG_ID -> new IdCursor(r.varint());
+                case TAG_SCRAP -> new ScrapCursor(r.varint());
+                case TAG_RECOMMEND_OFFSET -> new RecommendListOffsetCursor((int) r.varint());
+                case TAG_SEARCH_AFTER -> {
+                    int present = r.raw();
+                    Double score = (present & 1) != 0 ? Double.longBitsToDouble(r.fixed64()) : null;
+                    Long createdAtSec = (present & 2) != 0 ? r.varint() : null;
+                    Long newsId = (present & 4) != 0 ? r.varint() : null;
+                    yield new SearchAfterCursor(score, createdAtSec, newsId);
+                }
+                default -> throw new IllegalArgumentException("cursor decode error: unknown tag " + tag);
+            };
+        } catch (ArrayIndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("cursor decode error: truncated", e);
+        }
+        if (!r.done() || !type.isInstance(value)) {
+            throw new IllegalArgumentException("cursor decode error: type mismatch");
+        }
+        return (T) value;
+    }
+
+    // Mac은 thread-safe하지 않으므로 스레드별로 재사용, 키가 바뀌면 다시 초기화
+    private static byte[] mac(byte[] bytes, int length) {
+        SecretKeySpec current = key;
+        KeyedMac km = MAC.get();
+        if (km == null || km.key() != current) {
+            km = new KeyedMac(current, newMac(current));
+            MAC.set(km);
+        }
+        km.mac().update(bytes, 0, length);
+        return km.mac().doFinal();
+    }
+
+    private static Mac newMac(SecretKeySpec k) {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(k);
+            return mac;
+        } catch (Exception e) {
+            throw new IllegalStateException("HmacSHA256 init error", e);
+        }
+    }
+
+    private record KeyedMac(SecretKeySpec key, Mac mac) {}
+
+    private static byte[] randomBytes() {
+        byte[] b = new byte[32];
+        new SecureRandom().nextBytes(b);
+        return b;
+    }
+
+    /** 고정 크기 버퍼에 쓰는 작은 writer (커서 하나당 배열 2개만 할당) */
+    private static final class Writer {
+        private final byte[] buf = new byte[MAX_LENGTH];
+        private int pos;
+
+        Writer header(int tag) { return raw((VERSION << 4) | tag); }
+
+        Writer raw(int b) {
+            buf[pos++] = (byte) b;
+            return this;
+        }
+
+        // zigzag + LEB128 (음수도 짧게)
+        Writer varint(long v) {
+            long z = (v << 1) ^ (v >> 63);
+            while ((z & ~0x7FL) != 0) {
+                buf[pos++] = (byte) ((z & 0x7F) | 0x80);
+                z >>>= 7;
+            }
+            buf[pos++] = (byte) z;
+            return this;
+        }
+
+        Writer fixed64(long v) {
+            for (int i = 7; i >= 0; i--) buf[pos++] = (byte) (v >>> (i * 8));
+            return this;
+        }
+
+        byte[] sign() {
+            byte[] m = mac(buf, pos);
+            System.arraycopy(m, 0, buf, pos, MAC_LENGTH);
+            return Arrays.copyOf(buf, pos + MAC_LENGTH);
+        }
+    }
+
+    private static final class Reader {
+        private final byte[] buf;
+        private final int limit;
+        private int pos;
+
+        Reader(byte[] buf, int limit) {
+            this.buf = buf;
+            this.limit = limit;
+        }
+
+        int raw() {
+            if (pos >= limit) throw new ArrayIndexOutOfBoundsException(pos);
+            return buf[pos++] & 0xFF;
+        }
+
+        long varint() {
+            long z = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                int b = raw();
+                z |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) return (z >>> 1) ^ -(z & 1);
+            }
+            throw new IllegalArgumentException("cursor decode error: varint too long");
+        }
+
+        long fixed64() {
+            long v = 0;
+            for (int i = 0; i < 8; i++) v = (v << 8) | raw();
+            return v;
+        }
+
+        boolean done() { return pos == limit; }
     }
 }
 
 // 이렇게 진행함으로써 프론트는 문자열만 주고받으면 됨. 서버는 필요할 때 디코딩하여 경계값 꺼내 쿼리에 사용하면 됨.
-
@@ -0,0 +1,14 @@
+package com.ssafy.myissue.news.dto;
+
+import java.util.List;
+
+// 뉴스 챗봇 프롬프트용 기사 정보 (본문은 정규화 후 문단 단위 청크로 분할된 평문, summary는 적재 시 저장된 요약 또는 null)
+public record NewsArticleContext(
+        String title,
+        String outlet,
+        String author,
+        String category,
+        String createdAt,
+        String summary,
+        List<String> chunks
+) {}
@@ -0,0 +1,4 @@
+package com.ssafy.myissue.news.dto;
+
+// 뉴스 챗봇 히스토리 한 턴 (Redis 리스트 원소, {"q":..,"a":..} 형태로 저장)
+public record NewsChatTurn(String q, String a) { }
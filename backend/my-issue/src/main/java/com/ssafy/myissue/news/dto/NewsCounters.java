@@ -0,0 +1,7 @@
+package com.ssafy.myissue.news.dto;
+
+// 상세 조회 시 매 요청 최신값이 필요한 카운터만 조회하는 projection
+public interface NewsCounters {
+    int getViews();
+    int getScrapCount();
+}
@@ -1,15 +1,16 @@
 package com.ssafy.myissue.news.dto;
 
 import com.ssafy.myissue.news.domain.News;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Schema;
 
 import java.time.LocalDateTime;
-import java.util.List;
 
-// 상세 페이지 데이터
+// 상세 페이지 데이터 (content: 직렬화된 List<ContentBlock>)
 public record NewsDetailResponse(
         long newsId,
         String title,
-        List<ContentBlock> content,
+        @ArraySchema(schema = @Schema(implementation = ContentBlock.class)) RawJson content,
         String category,
         String author,
         String newspaper,
@@ -18,11 +19,11 @@ public record NewsDetailResponse(
         int scrapCount,
         boolean isScraped
 ) {
-    public static NewsDetailResponse from(News news, List<ContentBlock> blocks, boolean isScraped) {
+    public static NewsDetailResponse from(News news, RawJson content, boolean isScraped) {
         return new NewsDetailResponse(
                 news.getId(),
                 news.getTitle(),
-                blocks,
+                content,
                 news.getCategory(),
                 news.getAuthor(),
                 news.getNewsPaper(),
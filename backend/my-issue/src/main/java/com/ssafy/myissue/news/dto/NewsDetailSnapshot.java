@@ -0,0 +1,44 @@
+package com.ssafy.myissue.news.dto;
+
+import com.ssafy.myissue.news.domain.News;
+
+import java.time.LocalDateTime;
+
+// 상세 페이지 중 적재 후 바뀌지 않는 부분 (캐시 대상). 조회수/스크랩 수/스크랩 여부는 요청마다 덮어씀
+// content는 직렬화된 블록 배열 → 응답마다 블록을 다시 직렬화하지 않고 그대로 이어 붙임
+public record NewsDetailSnapshot(
+        long newsId,
+        String title,
+        RawJson content,
+        String category,
+        String author,
+        String newspaper,
+        LocalDateTime createdAt
+) {
+    public static NewsDetailSnapshot of(News news, RawJson content) {
+        return new NewsDetailSnapshot(
+                news.getId(),
+                news.getTitle(),
+                content,
+                news.getCategory(),
+                news.getAuthor(),
+                news.getNewsPaper(),
+                news.getCreatedAt()
+        );
+    }
+
+    public NewsDetailResponse toResponse(int views, int scrapCount, boolean isScraped) {
+        return new NewsDetailResponse(
+                newsId,
+                title,
+                content,
+                category,
+                author,
+                newspaper,
+                createdAt,
+                views,
+                scrapCount,
+                isScraped
+        );
+    }
+}
@@ -2,9 +2,9 @@ package com.ssafy.myissue.news.dto;
 
 import java.util.List;
 
-/** 홈 상단 3섹션(HOT 5, 추천 5, 최신 5) */
+/** 홈 상단 3섹션(HOT 5, 추천 5, 최신 5) — HOT은 Redis 카드 JSON 그대로 전달 */
 public record NewsHomeResponse(
-        List<NewsCardResponse> hot,
+        List<RawJson> hot,
         List<NewsCardResponse> recommend,
         List<NewsCardResponse> latest
 ) {}
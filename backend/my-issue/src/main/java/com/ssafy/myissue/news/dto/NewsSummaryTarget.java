@@ -0,0 +1,7 @@
+package com.ssafy.myissue.news.dto;
+
+// 요약 워커가 읽는 최소 컬럼 projection
+public interface NewsSummaryTarget {
+    Long getId();
+    String getContent();
+}
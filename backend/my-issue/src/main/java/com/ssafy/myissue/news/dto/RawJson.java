@@ -0,0 +1,43 @@
+package com.ssafy.myissue.news.dto;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.io.IOException;
+
+/**
+ * 이미 직렬화된 JSON 조각 (Redis에 JSON으로 저장된 카드 등)
+ * 응답 직렬화 시 파싱/재직렬화 없이 그대로 출력 스트림에 이어 붙임 → 역직렬화 + 재직렬화 왕복 제거
+ * 주의: 신뢰할 수 있는(서버가 직접 만든) JSON만 담을 것
+ * 역직렬화(Redis에 저장된 상세 스냅샷 등)는 해당 값을 트리로 읽어 다시 문자열로 보관
+ */
+@Schema(implementation = NewsCardResponse.class)
+@JsonSerialize(using = RawJson.Serializer.class)
+@JsonDeserialize(using = RawJson.Deserializer.class)
+public record RawJson(String json) {
+
+    public static class Serializer extends StdSerializer<RawJson> {
+        public Serializer() { super(RawJson.class); }
+
+        @Override
+        public void serialize(RawJson value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeRawValue(value.json());
+        }
+    }
+
+    public static class Deserializer extends StdDeserializer<RawJson> {
+        public Deserializer() { super(RawJson.class); }
+
+        @Override
+        public RawJson deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+            return new RawJson(p.readValueAsTree().toString());
+        }
+    }
+}
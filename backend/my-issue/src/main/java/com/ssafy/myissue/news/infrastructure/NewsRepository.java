@@ -2,12 +2,18 @@ package com.ssafy.myissue.news.infrastructure;
 
 import com.ssafy.myissue.news.domain.News;
 import com.ssafy.myissue.news.dto.HotNewsCandidates;
+import com.ssafy.myissue.news.dto.NewsCardResponse;
+import com.ssafy.myissue.news.dto.NewsCounters;
+import com.ssafy.myissue.news.dto.NewsSummaryTarget;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 /** 기본 CRUD + 커스텀(QueryDSL) 혼합 */
@@ -21,4 +27,40 @@ public interface NewsRepository extends JpaRepository<News, Long>, NewsCustomRep
     List<HotNewsCandidates> findHotCandidates(@Param("since") LocalDateTime since,
                                               @Param("minViews") int minViews,
                                               @Param("minScraps") int minScraps);
+
+    // latest window 캐시 적재용: 본문(jsonb)/임베딩 없이 카드 컬럼만 조회
+    @Query("SELECT new com.ssafy.myissue.news.dto.NewsCardResponse(n.id, n.title, n.newsPaper, n.createdAt, n.views, n.category, n.thumbnail) FROM News n WHERE n.id > :lastId ORDER BY n.id ASC")
+    List<NewsCardResponse> findCardsAfterId(@Param("lastId") Long lastId, Pageable pageable);
+
+    @Query("SELECT new com.ssafy.myissue.news.dto.NewsCardResponse(n.id, n.title, n.newsPaper, n.createdAt, n.views, n.category, n.thumbnail) FROM News n WHERE n.createdAt IS NOT NULL ORDER BY n.createdAt DESC, n.id DESC")
+    List<NewsCardResponse> findLatestCards(Pageable pageable);
+
+    @Query("SELECT new com.ssafy.myissue.news.dto.NewsCardResponse(n.id, n.title, n.newsPaper, n.createdAt, n.views, n.category, n.thumbnail) FROM News n WHERE n.category = :category AND n.createdAt IS NOT NULL ORDER BY n.createdAt DESC, n.id DESC")
+    List<NewsCardResponse> findCategoryLatestCards(@Param("category") String category, Pageable pageable);
+
+    @Query("SELECT DISTINCT n.category FROM News n")
+    List<String> findDistinctCategories();
+
+    @Query("SELECT MAX(n.id) FROM News n")
+    Long findMaxId();
+
+    // 상세 조회수 증가: 엔티티 로딩 없이 단일 UPDATE (동시 요청에도 누락 없음)
+    @Modifying
+    @Query("UPDATE News n SET n.views = n.views + 1 WHERE n.id = :id")
+    int increaseViews(@Param("id") Long id);
+
+    @Query("SELECT n.views AS views, n.scrapCount AS scrapCount FROM News n WHERE n.id = :id")
+    NewsCounters findCountersById(@Param("id") Long id);
+
+    // 요약 대기 중인 최근 기사 (idx_news_created_at 범위 스캔, 최신순). skip: 계속 실패해서 포기한 기사 (비어 있으면 안 됨)
+    @Query("SELECT n.id AS id, n.content AS content FROM News n " +
+            "WHERE n.summary IS NULL AND n.createdAt >= :since AND n.id NOT IN :skip " +
+            "ORDER BY n.createdAt DESC, n.id DESC")
+    List<NewsSummaryTarget> findSummaryTargets(@Param("since") LocalDateTime since,
+                                               @Param("skip") Collection<Long> skip, Pageable pageable);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE News n SET n.summary = :summary WHERE n.id = :id AND n.summary IS NULL")
+    int updateSummary(@Param("id") Long id, @Param("summary") String summary);
 }
@@ -1,6 +1,7 @@
 package com.ssafy.myissue.news.infrastructure;
 
 import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.types.dsl.Expressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import com.ssafy.myissue.news.domain.News;
 import com.ssafy.myissue.news.domain.NewsScrap;
@@ -76,7 +77,8 @@ public class NewsRepositoryImpl implements NewsCustomRepository {
             String pattern = "%" + keyword.trim().toLowerCase() + "%";
             where.and(
                     news.title.lower().like(pattern)
-                            .or(news.content.lower().like(pattern))
+                            // content는 jsonb → Postgres에 lower(jsonb)가 없어서 문자열로 바꾼 뒤 비교
+                            .or(Expressions.stringTemplate("cast({0} as String)", news.content).lower().like(pattern))
             );
         }
         if (lastCreatedAt != null && lastNewsId != null) {
@@ -0,0 +1,122 @@
+package com.ssafy.myissue.news.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 뉴스 챗봇 답변 캐시 (히스토리 없는 첫 질문 전용)
+ *  - HOT 기사엔 "요약해줘", "왜 중요해?" 같은 같은 질문이 반복됨 → 기사별 HASH(정규화 질문 → 답변)
+ *  - 정확히 같은 질문이 없으면 기사에 쌓인 질문들과 음절 bigram 코사인 유사도 비교 (SIMILARITY_THRESHOLD 이상만)
+ *  - 적중률/절약된 GPT 호출 수는 news.chat.answer-cache{result=hit|miss} 카운터로 확인 (/actuator/metrics)
+ */
+@Slf4j
+@Service
+public class NewsAnswerCacheService {
+
+    private static final String KEY_PREFIX = "chat:answer:";
+    private static final Duration TTL = Duration.ofDays(1);
+    private static final int MAX_QUESTIONS_PER_NEWS = 50; // 유사도 비교 대상 상한 (HGETALL 크기)
+    private static final double SIMILARITY_THRESHOLD = 0.8;
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final Counter hits;
+    private final Counter misses;
+
+    public NewsAnswerCacheService(StringRedisTemplate stringRedisTemplate, MeterRegistry meterRegistry) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.hits = Counter.builder("news.chat.answer-cache").tag("result", "hit")
+                .description("캐시된 답변으로 대체된 GPT 호출 수").register(meterRegistry);
+        this.misses = Counter.builder("news.chat.answer-cache").tag("result", "miss")
+                .register(meterRegistry);
+    }
+
+    public Optional<String> find(Long newsId, String question) {
+        String q = normalize(question);
+        if (q.isEmpty()) return Optional.empty();
+        String key = KEY_PREFIX + newsId;
+
+        try {
+            HashOperations<String, String, String> hash = stringRedisTemplate.opsForHash();
+            String exact = hash.get(key, q);
+            if (exact != null) {
+                hits.increment();
+                return Optional.of(exact);
+            }
+
+            Map<String, String> entries = hash.entries(key);
+            Map<String, Integer> target = bigrams(q);
+            String best = null;
+            double bestScore = 0;
+            for (Map.Entry<String, String> e : entries.entrySet()) {
+                double score = cosine(target, bigrams(e.getKey()));
+                if (score > bestScore) {
+                    bestScore = score;
+                    best = e.getValue();
+                }
+            }
+            if (best != null && bestScore >= SIMILARITY_THRESHOLD) {
+                hits.increment();
+                log.debug("[NewsChat] 유사 질문 캐시 적중 newsId={}, score={}", newsId, bestScore);
+                return Optional.of(best);
+            }
+        } catch (Exception e) {
+            log.warn("[NewsChat] 답변 캐시 조회 실패 → GPT 호출: newsId={}, msg={}", newsId, e.getMessage());
+        }
+        misses.increment();
+        return Optional.empty();
+    }
+
+    public void put(Long newsId, String question, String answer) {
+        String q = normalize(question);
+        if (q.isEmpty() || answer == null || answer.isBlank()) return;
+        String key = KEY_PREFIX + newsId;
+
+        try {
+            Long size = stringRedisTemplate.opsForHash().size(key);
+            if (size != null && size >= MAX_QUESTIONS_PER_NEWS) return;
+            stringRedisTemplate.opsForHash().put(key, q, answer);
+            if (size == null || size == 0) stringRedisTemplate.expire(key, TTL); // 첫 질문 기준 TTL
+        } catch (Exception e) {
+            log.warn("[NewsChat] 답변 캐시 저장 실패: newsId={}, msg={}", newsId, e.getMessage());
+        }
+    }
+
+    // 소문자 + 문자/숫자만 남김 ("요약 해줘!" == "요약해줘")
+    private String normalize(String s) {
+        if (s == null) return "";
+        StringBuilder sb = new StringBuilder(s.length());
+        for (char c : s.toLowerCase(Locale.ROOT).toCharArray()) {
+            if (Character.isLetterOrDigit(c)) sb.append(c);
+        }
+        return sb.toString();
+    }
+
+    private Map<String, Integer> bigrams(String s) {
+        Map<String, Integer> out = new HashMap<>();
+        if (s.length() == 1) out.put(s, 1);
+        for (int i = 0; i + 1 < s.length(); i++) out.merge(s.substring(i, i + 2), 1, Integer::sum);
+        return out;
+    }
+
+    private double cosine(Map<String, Integer> a, Map<String, Integer> b) {
+        if (a.isEmpty() || b.isEmpty()) return 0;
+        long dot = 0, na = 0, nb = 0;
+        for (Map.Entry<String, Integer> e : a.entrySet()) {
+            Integer v = b.get(e.getKey());
+            if (v != null) dot += (long) e.getValue() * v;
+            na += (long) e.getValue() * e.getValue();
+        }
+        for (int v : b.values()) nb += (long) v * v;
+        return dot / (Math.sqrt(na) * Math.sqrt(nb));
+    }
+}
@@ -0,0 +1,271 @@
+package com.ssafy.myissue.news.service;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.myissue.common.exception.CustomException;
+import com.ssafy.myissue.common.exception.ErrorCode;
+import com.ssafy.myissue.common.util.Bm25Index;
+import com.ssafy.myissue.common.util.LruCache;
+import com.ssafy.myissue.news.domain.News;
+import com.ssafy.myissue.news.dto.ContentBlock;
+import com.ssafy.myissue.news.dto.NewsArticleContext;
+import com.ssafy.myissue.news.infrastructure.NewsRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.regex.Pattern;
+
+/**
+ * 뉴스 챗봇용 기사 평문 캐시 + 질문 관련 문단 선택
+ *  - 한 세션에서 최대 6턴, 인기 기사는 여러 세션이 같은 기사를 물어봄 → 엔티티 로딩 + jsonb 순회 + 정규화를 기사당 1번만
+ *  - 1차 in-process LRU(청크 BM25 인덱스 포함), 2차 Redis (본문은 적재 후 바뀌지 않으므로 TTL만)
+ *  - retrieve(): 기사 전체 대신 질문과 BM25 점수가 높은 청크만 프롬프트에 넣음 (리드 문단은 항상 포함)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NewsArticleContextService {
+
+    private static final String KEY_PREFIX = "chat:article:v3:"; // v3: 청크 + 요약
+    private static final Duration TTL = Duration.ofDays(1);
+    private static final Duration TTL_WITHOUT_SUMMARY = Duration.ofMinutes(5);
+    private static final int LOCAL_MAX_ENTRIES = 500;
+    private static final int CHUNK_MAX_CHARS = 500; // 짧은 문단은 합치고 긴 문단은 문장 단위로 나눔
+
+    // normalize()가 매 호출 정규식을 컴파일하지 않도록 미리 컴파일
+    private static final Pattern HORIZONTAL_SPACES = Pattern.compile("[ \\t\\x0B\\f\\r]+");
+    private static final Pattern BLANK_LINES = Pattern.compile("\\n{3,}");
+    private static final Pattern PARAGRAPH_BREAK = Pattern.compile("\\n\\s*\\n");
+    private static final Pattern SENTENCE_END = Pattern.compile("(?<=[.!?。])\\s+");
+    private static final DateTimeFormatter CREATED_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+
+    private static final String[] TEXT_KEYS = {"title","subtitle","text","content","paragraph","caption","summary","body"};
+    private static final Set<String> TEXT_KEY_SET = Set.of(TEXT_KEYS);
+
+    private final NewsRepository newsRepository;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final LruCache<Long, Indexed> local = new LruCache<>(LOCAL_MAX_ENTRIES);
+
+    private record Indexed(NewsArticleContext context, Bm25Index index, int totalChars, long loadedAtNanos) {
+        static Indexed of(NewsArticleContext ctx) {
+            int total = 0;
+            for (String c : ctx.chunks()) total += c.length();
+            return new Indexed(ctx, Bm25Index.of(ctx.chunks()), total, System.nanoTime());
+        }
+
+        // 요약 없이 적재된 항목은 Redis와 같은 TTL_WITHOUT_SUMMARY 뒤에 다시 읽음 (그 사이 저장된 요약 반영)
+        boolean stale() {
+            return context.summary() == null
+                    && System.nanoTime() - loadedAtNanos > TTL_WITHOUT_SUMMARY.toNanos();
+        }
+    }
+
+    public NewsArticleContext get(Long newsId) {
+        return indexed(newsId).context();
+    }
+
+    /**
+     * 질문과 관련된 청크만 골라 maxChars 이내 본문으로 합침 (원래 순서 유지)
+     *  - 기사 전체가 maxChars 이하면 그대로
+     *  - 리드(첫 청크)는 항상 포함, 나머지는 BM25 점수순. 겹치는 토큰이 없으면 앞에서부터
+     */
+    public String retrieve(Long newsId, String question, int maxChars) {
+        long start = System.nanoTime();
+        Indexed entry = indexed(newsId);
+        List<String> chunks = entry.context().chunks();
+        if (entry.totalChars() <= maxChars || chunks.size() <= 1) {
+            return String.join("\n\n", chunks);
+        }
+
+        double[] scores = entry.index().score(question);
+        List<Integer> order = new ArrayList<>();
+        for (int i = 1; i < chunks.size(); i++) order.add(i);
+        order.sort((a, b) -> {
+            int c = Double.compare(scores[b], scores[a]);
+            return (c != 0) ? c : Integer.compare(a, b); // 동점(0점 포함)은 앞 문단 우선
+        });
+
+        TreeSet<Integer> picked = new TreeSet<>();
+        picked.add(0);
+        int used = chunks.get(0).length();
+        for (int i : order) {
+            int len = chunks.get(i).length();
+            if (used + len > maxChars) continue;
+            picked.add(i);
+            used += len;
+        }
+
+        StringBuilder sb = new StringBuilder(used + picked.size() * 2);
+        for (int i : picked) {
+            if (sb.length() > 0) sb.append("\n\n");
+            sb.append(chunks.get(i));
+        }
+        log.debug("[NewsChat] 컨텍스트 선택 newsId={}, {}→{}자 ({}/{}청크, {}µs)",
+                newsId, entry.totalChars(), sb.length(), picked.size(), chunks.size(),
+                (System.nanoTime() - start) / 1_000);
+        return sb.toString();
+    }
+
+    private Indexed indexed(Long newsId) {
+        Indexed hit = local.get(newsId);
+        if (hit != null && !hit.stale()) return hit;
+
+        NewsArticleContext ctx = readRedis(newsId);
+        if (ctx == null) {
+            News n = newsRepository.findById(newsId)
+                    .orElseThrow(() -> new CustomException(ErrorCode.NEWS_NOT_FOUND));
+            ctx = new NewsArticleContext(
+                    nz(n.getTitle()),
+                    nz(n.getNewsPaper()),
+                    nz(n.getAuthor()),
+                    nz(n.getCategory()),
+                    format(n.getCreatedAt()),
+                    n.getSummary(),
+                    chunk(paragraphs(n.getContent()))
+            );
+            writeRedis(newsId, ctx);
+        }
+        Indexed entry = Indexed.of(ctx);
+        local.put(newsId, entry);
+        return entry;
+    }
+
+    // ---- Redis ----
+    private NewsArticleContext readRedis(Long newsId) {
+        try {
+            String json = stringRedisTemplate.opsForValue().get(KEY_PREFIX + newsId);
+            return (json == null) ? null : objectMapper.readValue(json, NewsArticleContext.class);
+        } catch (Exception e) {
+            log.warn("[NewsChat] 기사 캐시 조회 실패 → DB 사용: newsId={}, msg={}", newsId, e.getMessage());
+            return null;
+        }
+    }
+
+    private void writeRedis(Long newsId, NewsArticleContext ctx) {
+        try {
+            // 요약 생성 전이면 짧게만 보관 → 요약이 저장된 뒤 다시 읽도록
+            Duration ttl = (ctx.summary() == null) ? TTL_WITHOUT_SUMMARY : TTL;
+            stringRedisTemplate.opsForValue().set(KEY_PREFIX + newsId, objectMapper.writeValueAsString(ctx), ttl);
+        } catch (Exception e) {
+            log.warn("[NewsChat] 기사 캐시 저장 실패: newsId={}, msg={}", newsId, e.getMessage());
+        }
+    }
+
+    // ---- 본문 평문화 ----
+    private String nz(Object o) { return (o == null) ? "" : String.valueOf(o); }
+
+    private String format(LocalDateTime t) {
+        if (t == null) return "";
+        return CREATED_FORMAT.format(t);
+    }
+
+    /** content(jsonb) → 정규화된 문단 목록. ContentBlock 배열이면 text/img_desc 블록만, 아니면 범용 추출 후 빈 줄 기준 */
+    private List<String> paragraphs(String raw) {
+        List<String> out = new ArrayList<>();
+        List<ContentBlock> blocks = parseBlocks(raw);
+        if (!blocks.isEmpty()) {
+            for (ContentBlock b : blocks) {
+                if (b == null || b.content() == null || "image".equals(b.type())) continue;
+                addParagraphs(b.content(), out);
+            }
+            if (!out.isEmpty()) return out;
+        }
+        addParagraphs(extractPlainText(raw), out);
+        return out;
+    }
+
+    private void addParagraphs(String text, List<String> out) {
+        for (String p : PARAGRAPH_BREAK.split(normalize(text))) {
+            String t = p.trim();
+            if (!t.isEmpty()) out.add(t);
+        }
+    }
+
+    /** 문단을 CHUNK_MAX_CHARS 안쪽 청크로: 짧은 문단끼리 합치고, 긴 문단은 문장 단위로 자름 */
+    private List<String> chunk(List<String> paragraphs) {
+        List<String> chunks = new ArrayList<>();
+        StringBuilder cur = new StringBuilder();
+        for (String p : paragraphs) {
+            List<String> pieces = (p.length() <= CHUNK_MAX_CHARS) ? List.of(p) : Arrays.asList(SENTENCE_END.split(p));
+            for (String piece : pieces) {
+                if (cur.length() > 0 && cur.length() + 1 + piece.length() > CHUNK_MAX_CHARS) {
+                    chunks.add(cur.toString());
+                    cur.setLength(0);
+                }
+                if (cur.length() > 0) cur.append('\n');
+                cur.append(piece);
+            }
+        }
+        if (cur.length() > 0) chunks.add(cur.toString());
+        return chunks;
+    }
+
+    private List<ContentBlock> parseBlocks(String raw) {
+        if (raw == null || !raw.trim().startsWith("[")) return List.of();
+        try {
+            return objectMapper.readValue(raw, new TypeReference<List<ContentBlock>>() {});
+        } catch (Exception e) {
+            return List.of();
+        }
+    }
+
+    private String extractPlainText(String raw) {
+        if (raw == null) return "";
+        String s = raw.trim();
+        if (!(s.startsWith("{") || s.startsWith("["))) return s;
+
+        try {
+            JsonNode root = objectMapper.readTree(s);
+            StringBuilder sb = new StringBuilder();
+            collectText(root, sb);
+            return sb.toString();
+        } catch (Exception e) {
+            log.warn("[NewsChat] content JSON 파싱 실패 → 원문 사용: {}", e.getMessage());
+            return raw;
+        }
+    }
+
+    private void collectText(JsonNode node, StringBuilder sb) {
+        if (node == null) return;
+        if (node.isTextual()) {
+            String t = node.asText().trim();
+            if (!t.isEmpty()) sb.append(t).append('\n');
+            return;
+        }
+        if (node.isArray()) {
+            for (JsonNode c : node) collectText(c, sb);
+            return;
+        }
+        if (node.isObject()) {
+            for (String k : TEXT_KEYS) if (node.has(k)) collectText(node.get(k), sb);
+
+            Iterator<Map.Entry<String, JsonNode>> it = node.fields();
+            while (it.hasNext()) {
+                Map.Entry<String, JsonNode> e = it.next();
+                if (TEXT_KEY_SET.contains(e.getKey())) continue; // 위에서 이미 수집 (본문 중복 방지)
+                String k = e.getKey().toLowerCase();
+                if (k.contains("image") || k.contains("thumb") || k.contains("url")) continue;
+                collectText(e.getValue(), sb);
+            }
+        }
+    }
+
+    private String normalize(String s) {
+        String collapsed = HORIZONTAL_SPACES.matcher(s).replaceAll(" ");
+        return BLANK_LINES.matcher(collapsed).replaceAll("\n\n").trim();
+    }
+}
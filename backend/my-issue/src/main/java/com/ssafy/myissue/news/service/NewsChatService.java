@@ -1,24 +1,26 @@
 package com.ssafy.myissue.news.service;
 
-import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.ssafy.myissue.common.exception.CustomException;
 import com.ssafy.myissue.common.exception.ErrorCode;
-import com.ssafy.myissue.news.domain.News;
+import com.ssafy.myissue.news.dto.NewsArticleContext;
 import com.ssafy.myissue.news.dto.NewsChatResponse;
-import com.ssafy.myissue.news.infrastructure.NewsRepository;
+import com.ssafy.myissue.news.dto.NewsChatTurn;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.time.Duration;
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
-import java.util.Iterator;
 import java.util.List;
-import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 @Slf4j
 @Service
@@ -27,39 +29,125 @@ public class NewsChatService {
 
     private static final int GPT_INPUT_MAX_CHARS = 12000;
     private static final int GPT_INPUT_MIN_CHARS = 4000;
+    private static final int CONTEXT_MAX_CHARS = 3000; // 본문 선택 예산 (기사 전체 대신 관련 청크만)
 
-    private static final String KEY_PREFIX = "chat:news:";
+    // v2: 원소가 {"q","a"} JSON 문자열 (예전 "Q: .. || A: .." 형식 키와 섞이지 않도록 분리, 30분 TTL이라 자연 소멸)
+    private static final String KEY_PREFIX = "chat:news:v2:";
     private static final int MAX_TURNS = 6; // 최대 6번 대화까지
     private static final Duration TTL = Duration.ofMinutes(30);
+    private static final Duration STREAM_TIMEOUT = Duration.ofSeconds(90);
 
-    private final NewsRepository newsRepository;
+    private static final RedisScript<Long> APPEND_TURN_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('RPUSH', KEYS[1], ARGV[1]) " +
+            "redis.call('LTRIM', KEYS[1], -tonumber(ARGV[2]), -1) " +
+            "redis.call('PEXPIRE', KEYS[1], ARGV[3]) " +
+            "return 1",
+            Long.class);
+
+    private final NewsArticleContextService articleContextService;
+    private final NewsAnswerCacheService answerCacheService;
     private final NewsGptService newsGptService;
-    private final ObjectMapper objectMapper = new ObjectMapper();
 
-    private final RedisTemplate<String, Object> redisTemplate;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper = new ObjectMapper();
 
     public NewsChatResponse answerAboutNews(Long newsId, String question, String sid) {
+        ChatTurn turn = prepare(newsId, question, sid);
+        NewsArticleContext article = turn.article();
+
+        // 히스토리 없는 첫 질문은 답변 캐시 먼저
+        String cached = turn.firstTurn() ? answerCacheService.find(newsId, turn.question()).orElse(null) : null;
+
+        // GPT 호출
+        String answer = (cached != null) ? cached : newsGptService.askAbout(
+                article.title(), article.outlet(), article.author(), article.category(), article.createdAt(),
+                turn.promptBody(), turn.question()
+        );
+        if (cached == null && turn.firstTurn()) answerCacheService.put(newsId, turn.question(), answer);
+
+        // 히스토리 저장 (최근 MAX_TURNS만 유지, TTL 갱신)
+        appendTurn(turn.key(), turn.question(), answer);
+
+        // 응답에 sid 포함
+        return new NewsChatResponse(answer, turn.sid());
+    }
+
+    /**
+     * answerAboutNews 스트리밍 버전 (text/event-stream)
+     *  - event: session → sid, event: delta → 답변 조각, event: done → 전체 답변(NewsChatResponse)
+     *  - GPT 응답은 HttpClient 비동기로 받으므로 스트림이 열려 있는 동안 서블릿 스레드를 잡지 않음
+     *  - 답변이 끝까지 도착한 경우에만 히스토리에 저장
+     */
+    public SseEmitter streamAboutNews(Long newsId, String question, String sid) {
+        ChatTurn turn = prepare(newsId, question, sid);
+        NewsArticleContext article = turn.article();
+
+        SseEmitter emitter = new SseEmitter(STREAM_TIMEOUT.toMillis());
+        send(emitter, "session", turn.sid());
+
+        // 캐시 적중이면 GPT 없이 한 번에
+        if (turn.firstTurn()) {
+            String cached = answerCacheService.find(newsId, turn.question()).orElse(null);
+            if (cached != null) {
+                appendTurn(turn.key(), turn.question(), cached);
+                send(emitter, "delta", cached);
+                send(emitter, "done", new NewsChatResponse(cached, turn.sid()));
+                emitter.complete();
+                return emitter;
+            }
+        }
+
+        CompletableFuture<String> future = newsGptService.streamAbout(
+                article.title(), article.outlet(), article.author(), article.category(), article.createdAt(),
+                turn.promptBody(), turn.question(),
+                delta -> send(emitter, "delta", delta)
+        );
+        // 클라이언트가 먼저 끊으면 GPT 스트림도 중단
+        emitter.onTimeout(() -> future.cancel(true));
+        emitter.onError(e -> future.cancel(true));
+
+        future.whenComplete((answer, ex) -> {
+            if (ex != null) {
+                log.warn("[NewsChat] 스트리밍 답변 실패: newsId={}, msg={}", newsId, ex.getMessage());
+                try {
+                    emitter.send(SseEmitter.event().name("error").data(ErrorCode.NEWS_CHAT_FAILED.getCode()));
+                } catch (Exception ignore) {
+                    // 이미 끊긴 연결
+                }
+                emitter.complete();
+                return;
+            }
+            appendTurn(turn.key(), turn.question(), answer);
+            if (turn.firstTurn()) answerCacheService.put(newsId, turn.question(), answer);
+            try {
+                emitter.send(SseEmitter.event().name("done").data(new NewsChatResponse(answer, turn.sid())));
+                emitter.complete();
+            } catch (Exception e) {
+                emitter.completeWithError(e);
+            }
+        });
+        return emitter;
+    }
+
+    // 기사/히스토리를 합쳐 이번 턴의 프롬프트 준비
+    private ChatTurn prepare(Long newsId, String question, String sid) {
         if (newsId == null || question == null || question.isBlank()) {
             throw new CustomException(ErrorCode.INVALID_PARAMETER);
         }
 
-        News n = newsRepository.findById(newsId)
-                .orElseThrow(() -> new CustomException(ErrorCode.NEWS_NOT_FOUND));
-
         final String assignedSid = (sid == null || sid.isBlank())
                 ? UUID.randomUUID().toString()
                 : sid.trim();
         final String key = KEY_PREFIX + assignedSid + ":" + newsId;
 
-        String title    = nz(n.getTitle());
-        String outlet   = nz(n.getNewsPaper());
-        String author   = nz(n.getAuthor());
-        String category = nz(n.getCategory());
-        String created  = format(n.getCreatedAt());
+        // 기사 메타 (newsId별 캐시) + 질문과 관련된 문단만 선택한 본문
+        NewsArticleContext article = articleContextService.get(newsId);
+        String articleText = articleContextService.retrieve(newsId, question, CONTEXT_MAX_CHARS);
 
-        // 기사 본문 텍스트화
-        String articleText = extractPlainText(n.getContent());
-        articleText = normalize(articleText);
+        // 적재 시 저장된 요약이 있으면 선택된 본문 앞에 붙임 (선택에서 빠진 문단의 맥락 보완)
+        if (article.summary() != null && !article.summary().isBlank()) {
+            articleText = "[기사 요약]\n" + article.summary() + "\n\n[관련 본문]\n" + articleText;
+        }
 
         // 히스토리 로드
         String historyBlock = loadHistoryBlock(key);
@@ -70,111 +158,54 @@ public class NewsChatService {
                 : "[대화 히스토리]\n" + historyBlock + "\n\n[기사 본문]\n" + articleText;
         promptBody = clip(promptBody, GPT_INPUT_MAX_CHARS);
 
-        // GPT 호출
-        String answer = newsGptService.askAbout(
-                title, outlet, author, category, created, promptBody, question.trim()
-        );
+        return new ChatTurn(assignedSid, key, question.trim(), article, promptBody, historyBlock.isBlank());
+    }
 
-        // 히스토리 저장 (최근 MAX_TURNS만 유지, TTL 갱신)
-        appendTurn(key, "Q: " + question.trim() + " || A: " + answer);
+    private record ChatTurn(String sid, String key, String question, NewsArticleContext article, String promptBody,
+                            boolean firstTurn) {}
 
-        // 응답에 sid 포함
-        return new NewsChatResponse(answer, assignedSid);
+    // delta 전송 실패(클라이언트 이탈)는 예외로 올려 GPT 스트림 구독을 끊음
+    private void send(SseEmitter emitter, String event, Object data) {
+        try {
+            emitter.send(SseEmitter.event().name(event).data(data));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
     }
 
     // ---- Redis helpers ----
     private String loadHistoryBlock(String key) {
-        Long lenL = redisTemplate.opsForList().size(key);
-        int len = (lenL == null) ? 0 : lenL.intValue();
-        if (len == 0) return "";
-
-        List<Object> items = redisTemplate.opsForList().range(key, Math.max(0, len - MAX_TURNS), len - 1);
+        // 최근 MAX_TURNS개만 한 번에 (LRANGE -6 -1)
+        List<String> items = stringRedisTemplate.opsForList().range(key, -MAX_TURNS, -1);
         if (items == null || items.isEmpty()) return "";
 
         StringBuilder sb = new StringBuilder();
-        for (Object it : items) {
-            String row = unquote(String.valueOf(it)); // GenericJackson2Json 직렬화로 생긴 양끝 따옴표 제거
-            if (!row.isBlank()) sb.append(row).append('\n');
+        for (String item : items) {
+            try {
+                NewsChatTurn t = objectMapper.readValue(item, NewsChatTurn.class);
+                sb.append("Q: ").append(t.q()).append('\n')
+                  .append("A: ").append(t.a()).append('\n');
+            } catch (Exception e) {
+                log.warn("[NewsChat] 히스토리 항목 파싱 실패 → 건너뜀: key={}, msg={}", key, e.getMessage());
+            }
         }
         return sb.toString().trim();
     }
 
-    private void appendTurn(String key, String row) {
-        redisTemplate.opsForList().rightPush(key, row);
-        // 길이 제한
-        Long sizeL = redisTemplate.opsForList().size(key);
-        int size = (sizeL == null) ? 0 : sizeL.intValue();
-        while (size > MAX_TURNS) {
-            redisTemplate.opsForList().leftPop(key);
-            size--;
-        }
-        // TTL 갱신
-        redisTemplate.expire(key, TTL);
-    }
-
-    private String unquote(String s) {
-        if (s == null || s.length() < 2) return (s == null ? "" : s);
-        if (s.charAt(0) == '"' && s.charAt(s.length()-1) == '"') {
-            return s.substring(1, s.length()-1);
-        }
-        return s;
-    }
-
-    // ---- 기존 helpers ----
-    private String nz(Object o) { return (o == null) ? "" : String.valueOf(o); }
-
-    private String format(LocalDateTime t) {
-        if (t == null) return "";
-        return DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm").format(t);
-    }
-
-    private String extractPlainText(String raw) {
-        if (raw == null) return "";
-        String s = raw.trim();
-        if (!(s.startsWith("{") || s.startsWith("["))) return s;
-
+    // RPUSH + LTRIM + PEXPIRE를 스크립트 1회로 (왕복 1번, 동시 턴끼리도 원자적)
+    private void appendTurn(String key, String question, String answer) {
+        String row;
         try {
-            JsonNode root = objectMapper.readTree(s);
-            StringBuilder sb = new StringBuilder();
-            collectText(root, sb);
-            return sb.toString();
-        } catch (Exception e) {
-            log.warn("[NewsChat] content JSON 파싱 실패 → 원문 사용: {}", e.getMessage());
-            return raw;
-        }
-    }
-
-    private void collectText(JsonNode node, StringBuilder sb) {
-        if (node == null) return;
-        if (node.isTextual()) {
-            String t = node.asText().trim();
-            if (!t.isEmpty()) sb.append(t).append('\n');
+            row = objectMapper.writeValueAsString(new NewsChatTurn(question, answer));
+        } catch (JsonProcessingException e) {
+            log.warn("[NewsChat] 히스토리 직렬화 실패: key={}, msg={}", key, e.getMessage());
             return;
         }
-        if (node.isArray()) {
-            for (JsonNode c : node) collectText(c, sb);
-            return;
-        }
-        if (node.isObject()) {
-            String[] keys = {"title","subtitle","text","content","paragraph","caption","summary","body"};
-            for (String k : keys) if (node.has(k)) collectText(node.get(k), sb);
-
-            Iterator<Map.Entry<String, JsonNode>> it = node.fields();
-            while (it.hasNext()) {
-                Map.Entry<String, JsonNode> e = it.next();
-                String k = e.getKey().toLowerCase();
-                if (k.contains("image") || k.contains("thumb") || k.contains("url")) continue;
-                collectText(e.getValue(), sb);
-            }
-        }
-    }
-
-    private String normalize(String s) {
-        return s.replaceAll("[ \\t\\x0B\\f\\r]+", " ")
-                .replaceAll("\\n{3,}", "\n\n")
-                .trim();
+        stringRedisTemplate.execute(APPEND_TURN_SCRIPT, List.of(key),
+                row, String.valueOf(MAX_TURNS), String.valueOf(TTL.toMillis()));
     }
 
+    // ---- 기존 helpers ----
     private String clip(String s, int max) {
         if (s.length() <= max) return s;
         int cut = Math.max(GPT_INPUT_MIN_CHARS, max);
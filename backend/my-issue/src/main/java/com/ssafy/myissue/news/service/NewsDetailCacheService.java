@@ -0,0 +1,67 @@
+package com.ssafy.myissue.news.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.ssafy.myissue.common.util.LruCache;
+import com.ssafy.myissue.news.dto.NewsDetailSnapshot;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 뉴스 상세 불변 부분(NewsDetailSnapshot) 캐시
+ *  - 1차: in-process LRU (본문 블록은 직렬화된 JSON(RawJson)으로 보관 → 조회 시 jsonb 파싱도, 블록 재직렬화도 없음)
+ *  - 2차: Redis (직렬화된 JSON, 노드 간 공유 / 재시작 후 워밍)
+ *  기사 본문은 적재 후 바뀌지 않으므로 무효화 없이 TTL만 둠
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NewsDetailCacheService {
+
+    private static final String KEY_PREFIX = "news:detail:";
+    private static final Duration TTL = Duration.ofDays(3);
+    private static final int LOCAL_MAX_ENTRIES = 2000;
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final LruCache<Long, NewsDetailSnapshot> local = new LruCache<>(LOCAL_MAX_ENTRIES);
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    public Optional<NewsDetailSnapshot> get(Long newsId) {
+        NewsDetailSnapshot hit = local.get(newsId);
+        if (hit != null) return Optional.of(hit);
+
+        try {
+            String json = stringRedisTemplate.opsForValue().get(KEY_PREFIX + newsId);
+            if (json == null) return Optional.empty();
+
+            NewsDetailSnapshot snapshot = objectMapper.readValue(json, NewsDetailSnapshot.class);
+            local.put(newsId, snapshot);
+            return Optional.of(snapshot);
+        } catch (Exception e) {
+            log.warn("[DetailCache] Redis 조회 실패 → DB 사용: newsId={}, msg={}", newsId, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    public void put(NewsDetailSnapshot snapshot) {
+        local.put(snapshot.newsId(), snapshot);
+        try {
+            stringRedisTemplate.opsForValue().set(KEY_PREFIX + snapshot.newsId(), objectMapper.writeValueAsString(snapshot), TTL);
+        } catch (Exception e) {
+            log.warn("[DetailCache] Redis 저장 실패: newsId={}, msg={}", snapshot.newsId(), e.getMessage());
+        }
+    }
+
+    public void evict(Long newsId) {
+        local.remove(newsId);
+        stringRedisTemplate.delete(KEY_PREFIX + newsId);
+    }
+}
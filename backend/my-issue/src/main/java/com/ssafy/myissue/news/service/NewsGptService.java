@@ -1,54 +1,36 @@
 package com.ssafy.myissue.news.service;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.myissue.common.llm.LlmClient;
 import lombok.RequiredArgsConstructor;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.*;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
 
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 
 @Service
 @RequiredArgsConstructor
 public class NewsGptService {
 
-    private final RestTemplate restTemplate = new RestTemplate();
-    private final ObjectMapper objectMapper = new ObjectMapper();
+    private static final String MODEL = "gpt-5-nano";
 
-    @Value("${gms.key}")
-    private String gmsKey;
+    private final LlmClient llmClient;
 
     public String askAbout(String title, String outlet, String author, String category,
                            String createdAt, String articleText, String question) {
+        return llmClient.chat(MODEL, "Answer in Korean",
+                makeUserPrompt(title, outlet, author, category, createdAt, articleText, question));
+    }
 
-        String url = "https://gms.ssafy.io/gmsapi/api.openai.com/v1/chat/completions";
-
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_JSON);
-        headers.setBearerAuth(gmsKey);
-
-        Map<String, Object> body = new HashMap<>();
-        body.put("model", "gpt-5-nano");
-        body.put("messages", List.of(
-                Map.of("role","developer","content","Answer in Korean"),
-                Map.of("role","user","content", makeUserPrompt(title, outlet, author, category, createdAt, articleText, question))
-        ));
-
-        try {
-            String jsonBody = objectMapper.writeValueAsString(body);
-            HttpEntity<String> entity = new HttpEntity<>(jsonBody, headers);
-            ResponseEntity<String> response = restTemplate.postForEntity(url, entity, String.class);
-
-            JsonNode root = objectMapper.readTree(response.getBody());
-            return root.path("choices").get(0).path("message").path("content").asText();
-        } catch (JsonProcessingException e) {
-            throw new RuntimeException("GPT 응답 파싱 실패", e);
-        }
+    /**
+     * askAbout 스트리밍 버전
+     *  - 토큰 조각(delta)이 도착할 때마다 onDelta 호출, 완료 시 전체 답변으로 future 완료
+     *  - 호출 스레드는 바로 반환됨 (요청 전송/수신 모두 비동기)
+     */
+    public CompletableFuture<String> streamAbout(String title, String outlet, String author, String category,
+                                                 String createdAt, String articleText, String question,
+                                                 Consumer<String> onDelta) {
+        return llmClient.streamChat(MODEL, "Answer in Korean",
+                makeUserPrompt(title, outlet, author, category, createdAt, articleText, question), onDelta);
     }
 
     private String makeUserPrompt(String title, String outlet, String author, String category,
@@ -0,0 +1,201 @@
+package com.ssafy.myissue.news.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.ssafy.myissue.news.dto.CursorCodec;
+import com.ssafy.myissue.news.dto.CursorPage;
+import com.ssafy.myissue.news.dto.LatestCursor;
+import com.ssafy.myissue.news.dto.NewsCardResponse;
+import com.ssafy.myissue.news.infrastructure.NewsRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.stereotype.Service;
+
+import java.time.ZoneOffset;
+import java.util.*;
+
+/**
+ * 최신/카테고리 피드 앞부분(latest window) Redis 캐시
+ *  - ZSET(score = createdAt 초, member = 0 패딩 newsId) : 전체 1개 + 카테고리별 1개, 각 WINDOW_SIZE 개로 상한
+ *  - HASH(newsId → 카드 JSON) : 윈도우에 올라간 카드 본문
+ *  동점(score 같음)은 member 사전순 = newsId 순이라 (createdAt desc, id desc) 키셋 정렬과 동일함.
+ *  커서가 윈도우 밖으로 나가면 Optional.empty() → 호출부가 기존 키셋 SQL로 폴백.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NewsLatestCacheService {
+
+    private static final String ALL_KEY = "latest:news";
+    private static final String CATEGORY_KEY_PREFIX = "latest:news:category:";
+    private static final String CARD_KEY = "latest:news:card";
+    private static final String LAST_ID_KEY = "latest:news:last-id";
+
+    private static final int WINDOW_SIZE = 200; // 키당 보관 개수 (20개 페이지 기준 10페이지)
+    private static final int SYNC_BATCH = 500;  // 증분 동기화 1회 최대 적재 수
+
+    private final NewsRepository newsRepository;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    /** 윈도우에서 한 페이지 조회. 윈도우로 답할 수 없으면 empty */
+    public Optional<CursorPage<NewsCardResponse>> findPage(String category, LatestCursor cursor, int size) {
+        String key = windowKey(category);
+        ZSetOperations<String, String> zset = stringRedisTemplate.opsForZSet();
+
+        try {
+            long start = 0;
+            if (cursor != null) {
+                Long rank = zset.reverseRank(key, member(cursor.newsId()));
+                if (rank == null) return Optional.empty(); // 커서가 윈도우 밖
+                start = rank + 1;
+            }
+
+            // size + 1개 조회해서 다음 페이지 존재 여부 판단
+            Set<ZSetOperations.TypedTuple<String>> tuples = zset.reverseRangeWithScores(key, start, start + size);
+            if (tuples == null || tuples.size() <= size) return Optional.empty(); // 윈도우 끝 → SQL이 정확함
+
+            List<String> ids = new ArrayList<>(tuples.size());
+            List<Long> secs = new ArrayList<>(tuples.size());
+            for (ZSetOperations.TypedTuple<String> t : tuples) {
+                if (t.getValue() == null || t.getScore() == null) return Optional.empty();
+                ids.add(String.valueOf(Long.parseLong(t.getValue())));
+                secs.add(t.getScore().longValue());
+            }
+
+            List<Object> jsons = stringRedisTemplate.opsForHash().multiGet(CARD_KEY, new ArrayList<>(ids.subList(0, size)));
+            List<NewsCardResponse> items = new ArrayList<>(size);
+            for (Object json : jsons) {
+                if (json == null) return Optional.empty(); // 카드 누락 → 부분 응답 대신 SQL
+                items.add(objectMapper.readValue((String) json, NewsCardResponse.class));
+            }
+
+            NewsCardResponse last = items.get(items.size() - 1);
+            String next = CursorCodec.encode(new LatestCursor(secs.get(size - 1), last.newsId()));
+            return Optional.of(new CursorPage<>(items, next, true));
+        } catch (Exception e) {
+            log.warn("[LatestCache] 윈도우 조회 실패 → SQL 폴백: key={}, msg={}", key, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /** 마지막 동기화 이후 적재된 뉴스만 윈도우에 추가 */
+    public void sync() {
+        String lastIdRaw = stringRedisTemplate.opsForValue().get(LAST_ID_KEY);
+        if (lastIdRaw == null) {
+            rebuild();
+            return;
+        }
+
+        long lastId = Long.parseLong(lastIdRaw);
+        while (true) {
+            List<NewsCardResponse> cards = newsRepository.findCardsAfterId(lastId, PageRequest.of(0, SYNC_BATCH));
+            if (cards.isEmpty()) break;
+
+            push(cards);
+            lastId = cards.get(cards.size() - 1).newsId();
+            stringRedisTemplate.opsForValue().set(LAST_ID_KEY, String.valueOf(lastId));
+            log.debug("[LatestCache] 증분 동기화 {}건 (lastId={})", cards.size(), lastId);
+
+            if (cards.size() < SYNC_BATCH) break;
+        }
+    }
+
+    /** 전체/카테고리 윈도우를 DB 기준으로 다시 적재 (조회수 등 카드 값 갱신 포함) */
+    public void rebuild() {
+        Long maxId = newsRepository.findMaxId();
+
+        Set<String> kept = new HashSet<>();
+        kept.addAll(reload(null));
+        for (String category : newsRepository.findDistinctCategories()) {
+            kept.addAll(reload(category));
+        }
+
+        // 어느 윈도우에도 없는 카드 정리
+        Set<Object> cached = stringRedisTemplate.opsForHash().keys(CARD_KEY);
+        if (cached != null) {
+            Object[] stale = cached.stream().filter(id -> !kept.contains(String.valueOf(id))).toArray();
+            if (stale.length > 0) stringRedisTemplate.opsForHash().delete(CARD_KEY, stale);
+        }
+
+        if (maxId != null) stringRedisTemplate.opsForValue().set(LAST_ID_KEY, String.valueOf(maxId));
+        log.info("[LatestCache] 윈도우 재적재 완료 (cards={})", kept.size());
+    }
+
+    // ================= 내부 =================
+
+    private List<String> reload(String category) {
+        List<NewsCardResponse> cards = (category == null)
+                ? newsRepository.findLatestCards(PageRequest.of(0, WINDOW_SIZE))
+                : newsRepository.findCategoryLatestCards(category, PageRequest.of(0, WINDOW_SIZE));
+
+        String key = windowKey(category);
+        Set<ZSetOperations.TypedTuple<String>> tuples = new HashSet<>();
+        Map<String, String> jsons = new HashMap<>();
+        for (NewsCardResponse card : cards) {
+            if (card.createdAt() == null) continue;
+            tuples.add(ZSetOperations.TypedTuple.of(member(card.newsId()), score(card)));
+            jsons.put(String.valueOf(card.newsId()), toJson(card));
+        }
+        if (tuples.isEmpty()) return List.of();
+
+        stringRedisTemplate.opsForHash().putAll(CARD_KEY, jsons);
+        stringRedisTemplate.opsForZSet().add(key, tuples);
+        trim(key);
+        return new ArrayList<>(jsons.keySet());
+    }
+
+    private void push(List<NewsCardResponse> cards) {
+        Map<String, String> jsons = new HashMap<>();
+        Set<String> touched = new HashSet<>();
+        ZSetOperations<String, String> zset = stringRedisTemplate.opsForZSet();
+
+        for (NewsCardResponse card : cards) {
+            if (card.createdAt() == null) continue;
+            String m = member(card.newsId());
+            double s = score(card);
+            zset.add(ALL_KEY, m, s);
+            touched.add(ALL_KEY);
+            if (card.category() != null) {
+                String ck = windowKey(card.category());
+                zset.add(ck, m, s);
+                touched.add(ck);
+            }
+            jsons.put(String.valueOf(card.newsId()), toJson(card));
+        }
+        if (!jsons.isEmpty()) stringRedisTemplate.opsForHash().putAll(CARD_KEY, jsons);
+        touched.forEach(this::trim);
+    }
+
+    /** 점수 낮은(오래된) 쪽부터 잘라 WINDOW_SIZE 유지 */
+    private void trim(String key) {
+        stringRedisTemplate.opsForZSet().removeRange(key, 0, -(WINDOW_SIZE + 1));
+    }
+
+    private String windowKey(String category) {
+        return (category == null || category.isBlank()) ? ALL_KEY : CATEGORY_KEY_PREFIX + category;
+    }
+
+    // 고정 폭 문자열이어야 동점일 때 사전순 = 숫자순
+    private String member(long newsId) {
+        return String.format("%019d", newsId);
+    }
+
+    private double score(NewsCardResponse card) {
+        return card.createdAt().toEpochSecond(ZoneOffset.UTC);
+    }
+
+    private String toJson(NewsCardResponse card) {
+        try {
+            return objectMapper.writeValueAsString(card);
+        } catch (Exception e) {
+            throw new IllegalStateException("NewsCardResponse 직렬화 실패: " + card.newsId(), e);
+        }
+    }
+}
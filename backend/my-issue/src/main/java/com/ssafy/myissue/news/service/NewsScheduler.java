@@ -9,7 +9,7 @@ import com.ssafy.myissue.news.dto.NewsCardResponse;
 import com.ssafy.myissue.news.infrastructure.NewsRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.data.redis.core.ZSetOperations;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
@@ -25,7 +25,9 @@ import java.util.List;
 public class NewsScheduler {
 
     private final NewsRepository newsRepository;
-    private final RedisTemplate<String, Object> redisTemplate;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final NewsLatestCacheService latestCacheService;
+    private final NewsSummaryService newsSummaryService;
     private final ObjectMapper objectMapper = new ObjectMapper()
             .registerModule(new JavaTimeModule())
             .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
@@ -37,6 +39,35 @@ public class NewsScheduler {
         updateHotNews();
     }
 
+    @Scheduled(fixedDelay = 60000, initialDelay = 10000) // 1분마다 새로 적재된 뉴스를 latest window에 반영
+    public void syncLatestWindow() {
+        try {
+            latestCacheService.sync();
+        } catch (Exception e) {
+            log.error("latest window 증분 동기화 실패", e);
+        }
+    }
+
+    @Scheduled(fixedRate = 1800000, initialDelay = 1800000) // 30분마다 카드(조회수 등) 재적재
+    public void rebuildLatestWindow() {
+        try {
+            latestCacheService.rebuild();
+        } catch (Exception e) {
+            log.error("latest window 재적재 실패", e);
+        }
+    }
+
+    @Scheduled(fixedDelay = 30000, initialDelay = 20000) // 30초마다 새로 적재된 뉴스 요약
+    public void summarizeNews() {
+        try {
+            newsSummaryService.summarizePending();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            log.error("뉴스 요약 배치 실패", e);
+        }
+    }
+
     public void manualScheduler() {
         log.info("뉴스 스케줄러 실행 (수동)");
         updateHotNews();
@@ -54,9 +85,9 @@ public class NewsScheduler {
                 .limit(100)
                 .toList();
 
-        // Redis Sorted Set에 ID만 저장
-        redisTemplate.delete(HOT_KEY);
-        ZSetOperations<String, Object> zSet = redisTemplate.opsForZSet();
+        // Redis Sorted Set에 카드 JSON 원문 저장 (조회 시 파싱 없이 응답에 그대로 사용)
+        stringRedisTemplate.delete(HOT_KEY);
+        ZSetOperations<String, String> zSet = stringRedisTemplate.opsForZSet();
 
         for (HotNewsCandidates n : sorted) {
             try {
@@ -21,6 +21,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.data.redis.core.ZSetOperations;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -45,19 +46,24 @@ public class NewsService {
     @Value("${app.recommend.params}")
     private String recommendParams;
     private final RedisTemplate<String, Object> redisTemplate;
+    private final StringRedisTemplate stringRedisTemplate;
     private final NewsRepository newsRepository;
     private final ObjectMapper objectMapper = new ObjectMapper()
             .registerModule(new JavaTimeModule())
             .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
     private final NewsScrapRepository scrapRepository;
     private final ElasticsearchClient elasticsearchClient;
+    private final NewsLatestCacheService latestCacheService;
+    private final NewsDetailCacheService detailCacheService;
 
     /** 메인 화면: HOT 5, 추천 5(임시 최신), 최신 5 */
     public NewsHomeResponse getHome(Long userId) {
-        List<NewsCardResponse> hotCards = getMainHotNews();
+        List<RawJson> hotCards = getMainHotNews();
 
         List<NewsCardResponse> recommendCards = getMainRecommendNews(userId);
-        List<NewsCardResponse> latestCards = toCards(newsRepository.findLatestPage(null, null, 5));
+        List<NewsCardResponse> latestCards = latestCacheService.findPage(null, null, 5)
+                .map(CursorPage::items)
+                .orElseGet(() -> toCards(newsRepository.findLatestPage(null, null, 5)));
 
         return new NewsHomeResponse(hotCards, recommendCards, latestCards);
     }
@@ -100,19 +106,16 @@ public class NewsService {
         return toCards(newsList);
     }
 
-    // HOT: Redis ZSET 기반 무한스크롤 (DTO 그대로 반환)
-    public CursorPage<NewsCardResponse> getHotByRedis(String cursor, int size) {
+    // HOT: Redis ZSET 기반 무한스크롤 (저장된 카드 JSON을 파싱 없이 그대로 반환)
+    public CursorPage<RawJson> getHotByRedis(String cursor, int size) {
         final int pageSize = (size <= 0) ? 10 : size;
 
         // 1) 커서 해석 (offset)
-        int offset = 0;
-        if (cursor != null && !cursor.isBlank()) {
-            HotZOffsetCursor c = CursorCodec.decode(cursor, HotZOffsetCursor.class);
-            offset = Math.max(0, c.offset());
-        }
+        HotZOffsetCursor c = decodeCursor(cursor, HotZOffsetCursor.class);
+        int offset = (c == null) ? 0 : Math.max(0, c.offset());
 
         // 2) 총 개수
-        ZSetOperations<String, Object> zset = redisTemplate.opsForZSet();
+        ZSetOperations<String, String> zset = stringRedisTemplate.opsForZSet();
         Long totalL = zset.zCard(HOT_KEY);
         int total = (totalL == null) ? 0 : totalL.intValue();
         if (total == 0) return new CursorPage<>(List.of(), null, false);
@@ -122,21 +125,11 @@ public class NewsService {
         int endInclusive = Math.min(offset + pageSize, total) - 1;
         if (start > endInclusive) return new CursorPage<>(List.of(), null, false);
 
-        // 4) Redis ZSET → JSON → DTO
-        Set<Object> values = zset.reverseRange(HOT_KEY, start, endInclusive);
+        // 4) Redis ZSET → JSON 조각 그대로
+        Set<String> values = zset.reverseRange(HOT_KEY, start, endInclusive);
         if (values == null || values.isEmpty()) return new CursorPage<>(List.of(), null, false);
 
-        List<NewsCardResponse> items = values.stream()
-                .map(v -> {
-                    try {
-                        return objectMapper.readValue((String) v, NewsCardResponse.class);
-                    } catch (Exception e) {
-                        log.error("HOT 뉴스 역직렬화 실패", e);
-                        return null;
-                    }
-                })
-                .filter(Objects::nonNull)
-                .toList();
+        List<RawJson> items = values.stream().map(RawJson::new).toList();
 
         // 5) nextCursor 구성
         boolean hasNext = (endInclusive + 1) < total;
@@ -151,10 +144,7 @@ public class NewsService {
 
         String listKey = RECOMMEND_KEY_PREFIX + userId; // LIST: "id:score"
 
-        RecommendListOffsetCursor c = null;
-        if (cursor != null && !cursor.isBlank()) {
-            c = CursorCodec.decode(cursor, RecommendListOffsetCursor.class);
-        }
+        RecommendListOffsetCursor c = decodeCursor(cursor, RecommendListOffsetCursor.class);
         int start = (c == null) ? 0 : Math.max(0, c.offset());
 
         Long llenL = redisTemplate.opsForList().size(listKey);
@@ -188,22 +178,11 @@ public class NewsService {
     }
 
 
-    private List<NewsCardResponse> getMainHotNews() {
-        ZSetOperations<String, Object> zset = redisTemplate.opsForZSet();
-        Set<Object> values = zset.reverseRange(HOT_KEY, 0, 4);
+    private List<RawJson> getMainHotNews() {
+        Set<String> values = stringRedisTemplate.opsForZSet().reverseRange(HOT_KEY, 0, 4);
         if (values == null || values.isEmpty()) return List.of();
 
-        return values.stream()
-                .map(v -> {
-                    try {
-                        return objectMapper.readValue((String) v, NewsCardResponse.class);
-                    } catch (Exception e) {
-                        log.error("HOT 뉴스 역직렬화 실패", e);
-                        return null;
-                    }
-                })
-                .filter(Objects::nonNull)
-                .toList();
+        return values.stream().map(RawJson::new).toList();
     }
 
     private List<Long> getIdsFromList(String key, int start, int end) {
@@ -237,10 +216,7 @@ public class NewsService {
 
     /** 최신 전체(무한 스크롤, cursor 기반) */
     public CursorPage<NewsCardResponse> getLatest(String cursor, int size) {
-        LatestCursor c = null;
-        if (cursor != null && !cursor.isBlank()) {
-            c = CursorCodec.decode(cursor, LatestCursor.class);
-        }
+        LatestCursor c = decodeCursor(cursor, LatestCursor.class);
 
         LocalDateTime lastAt = null;
         Long lastId = null;
@@ -249,16 +225,17 @@ public class NewsService {
             lastId = c.newsId();
         }
 
+        // latest window(Redis)에서 먼저 조회, 커서가 윈도우 밖이면 키셋 SQL
+        Optional<CursorPage<NewsCardResponse>> cached = latestCacheService.findPage(null, c, size);
+        if (cached.isPresent()) return cached.get();
+
         List<News> rows = newsRepository.findLatestPage(lastAt, lastId, size + 1);
         return toCursorPageLatest(rows, size);
     }
 
     /** 카테고리 최신(무한 스크롤, cursor 기반) */
     public CursorPage<NewsCardResponse> getByCategory(String category, String cursor, int size) {
-        LatestCursor c = null;
-        if (cursor != null && !cursor.isBlank()) {
-            c = CursorCodec.decode(cursor, LatestCursor.class);
-        }
+        LatestCursor c = decodeCursor(cursor, LatestCursor.class);
 
         LocalDateTime lastAt = null;
         Long lastId = null;
@@ -267,33 +244,33 @@ public class NewsService {
             lastId = c.newsId();
         }
 
+        Optional<CursorPage<NewsCardResponse>> cached = latestCacheService.findPage(category, c, size);
+        if (cached.isPresent()) return cached.get();
+
         List<News> rows = newsRepository.findCategoryLatestPage(category, lastAt, lastId, size + 1);
         return toCursorPageLatest(rows, size);
     }
 
-    /** 상세 + 조회수 증가 (이미지 테이블 대신 content(JSON) 파싱) */
+    /** 상세 + 조회수 증가 (불변 부분은 캐시, 조회수/스크랩 정보만 매 요청 조회) */
     @Transactional
     public NewsDetailResponse getDetailAndIncreaseView(Long newsId, Long userId) {
-        News n = newsRepository.findById(newsId)
-                .orElseThrow(() -> new CustomException(ErrorCode.NEWS_NOT_FOUND)); // [CHANGED]
-        n.increaseViews();
+        NewsDetailSnapshot snapshot = detailCacheService.get(newsId).orElse(null);
+        if (snapshot == null) {
+            News n = newsRepository.findById(newsId)
+                    .orElseThrow(() -> new CustomException(ErrorCode.NEWS_NOT_FOUND)); // [CHANGED]
+            snapshot = NewsDetailSnapshot.of(n, contentJson(n.getContent()));
+            detailCacheService.put(snapshot);
+        }
 
-        var blocks = parseBlocks(n.getContent());
+        if (newsRepository.increaseViews(newsId) == 0) {
+            detailCacheService.evict(newsId); // 캐시에만 남은 삭제된 기사
+            throw new CustomException(ErrorCode.NEWS_NOT_FOUND);
+        }
+        NewsCounters counters = newsRepository.findCountersById(newsId);
 
         boolean isScraped = scrapRepository.existsByNewsIdAndUserId(newsId, userId);
 
-        return new NewsDetailResponse(
-                n.getId(),
-                n.getTitle(),
-                blocks,
-                n.getCategory(),
-                n.getAuthor(),
-                n.getNewsPaper(),
-                n.getCreatedAt(),
-                n.getViews(),
-                n.getScrapCount(),
-                isScraped
-        );
+        return snapshot.toResponse(counters.getViews(), counters.getScrapCount(), isScraped);
     }
 
     /**
@@ -302,10 +279,7 @@ public class NewsService {
     public CursorPage<NewsCardResponse> searchByLike(String keyword, String category, Integer size, String cursor) {
         int pageSize = (size == null || size <= 0) ? 20 : size;
 
-        LatestCursor c = null;
-        if (cursor != null && !cursor.isBlank()) {
-            c = CursorCodec.decode(cursor, LatestCursor.class);
-        }
+        LatestCursor c = decodeCursor(cursor, LatestCursor.class);
 
         LocalDateTime lastAt = null;
         Long lastId = null;
@@ -324,10 +298,7 @@ public class NewsService {
     public CursorPage<NewsCardResponse> searchByIndex(String keyword, String category, Integer size, String cursor) {
         int pageSize = (size == null || size <= 0) ? 20 : size;
 
-        LatestCursor c = null;
-        if (cursor != null && !cursor.isBlank()) {
-            c = CursorCodec.decode(cursor, LatestCursor.class);
-        }
+        LatestCursor c = decodeCursor(cursor, LatestCursor.class);
 
         LocalDateTime lastAt = null;
         Long lastId = null;
@@ -336,12 +307,18 @@ public class NewsService {
             lastId = c.newsId();
         }
 
+        // 키워드 없는 최신/카테고리 목록은 latest window(Redis) 우선
+        if (keyword == null || keyword.isBlank()) {
+            Optional<CursorPage<NewsCardResponse>> cached = latestCacheService.findPage(category, c, pageSize);
+            if (cached.isPresent()) return cached.get();
+        }
+
         List<News> rows;
         if (keyword != null && !keyword.isBlank()) {
             // 키워드가 있으면 searchPage (인덱스 활용하며 LIKE 검색)
             rows = newsRepository.searchPage(keyword, category, lastAt, lastId, pageSize + 1);
         } else if (category != null && !category.isBlank()) {
-            // idx_news_category_cursor 인덱스 활용
+            // idx_news_category_created 인덱스 활용
             rows = newsRepository.findCategoryLatestPage(category, lastAt, lastId, pageSize + 1);
         } else {
             // idx_news_created_at 인덱스 활용
@@ -389,9 +366,7 @@ public class NewsService {
             });
 
             // 커서 파싱
-            final SearchAfterCursor searchAfterCursor = (cursor != null && !cursor.isBlank()) 
-                    ? CursorCodec.decode(cursor, SearchAfterCursor.class) 
-                    : null;
+            final SearchAfterCursor searchAfterCursor = decodeCursor(cursor, SearchAfterCursor.class);
 
             // ES 검색 실행 (search_after 기반 페이징)
             SearchResponse<Map> response = elasticsearchClient.search(s -> {
@@ -513,6 +488,25 @@ public class NewsService {
         )).toList();
     }
 
+    // 커서 해석 (없으면 null). 위조/만료(서명 불일치, 예전 JSON 커서 등)는 400 INVALID_CURSOR → 클라이언트는 첫 페이지부터 다시
+    private <T> T decodeCursor(String cursor, Class<T> type) {
+        if (cursor == null || cursor.isBlank()) return null;
+        try {
+            return CursorCodec.decode(cursor, type);
+        } catch (IllegalArgumentException e) {
+            throw new CustomException(ErrorCode.INVALID_CURSOR);
+        }
+    }
+
+    // content(JSON) → 검증된 블록 배열 JSON (캐시 적재 시 1번만 파싱/직렬화, 이후 요청은 그대로 출력)
+    private RawJson contentJson(String json) {
+        try {
+            return new RawJson(objectMapper.writeValueAsString(parseBlocks(json)));
+        } catch (Exception e) {
+            return new RawJson("[]");
+        }
+    }
+
     // content(JSON) → List<ContentBlock>
     private List<ContentBlock> parseBlocks(String json) {
         if (json == null || json.isBlank()) return Collections.emptyList();
@@ -0,0 +1,148 @@
+package com.ssafy.myissue.news.service;
+
+import com.ssafy.myissue.common.llm.LlmClient;
+import com.ssafy.myissue.common.llm.LlmException;
+import com.ssafy.myissue.common.llm.LlmResultCache;
+import com.ssafy.myissue.common.util.LruCache;
+import com.ssafy.myissue.news.dto.NewsSummaryTarget;
+import com.ssafy.myissue.news.infrastructure.NewsRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 기사 요약 워커 (적재 직후 1번만 요약해서 news.summary에 저장)
+ *  - 크롤러(Python)가 넣은 기사 중 summary가 없는 최근 기사를 주기적으로 가져와 고정 크기 풀에서 요약
+ *  - LLM이 429(재시도 후에도)로 실패하면 이번 배치를 멈추고 점점 길게 쉬었다가 재개
+ *  - 빈 결과 포함 MAX_FAILURES번 실패한 기사는 조회 쿼리에서 제외 (실패 기사가 배치를 채워 새 기사가 밀리지 않게)
+ *  - 네컷/팟캐스트/푸시/챗봇은 저장된 요약을 읽기만 함 (피크 시간대 LLM 호출 제거)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NewsSummaryService {
+
+    public static final String MODEL = "gpt-5-nano";
+    private static final int SUMMARY_PROMPT_VERSION = 1; // 요약 프롬프트 바꾸면 올릴 것
+
+    private static final int WORKERS = 4;
+    private static final int BATCH_SIZE = 40;
+    private static final Duration LOOKBACK = Duration.ofDays(2); // 이보다 오래된 미요약 기사는 대상 아님
+    private static final Duration PAUSE_MIN = Duration.ofMinutes(1);
+    private static final Duration PAUSE_MAX = Duration.ofMinutes(15);
+    private static final int MAX_FAILURES = 3;
+
+    private final NewsRepository newsRepository;
+    private final LlmClient llmClient;
+    private final LlmResultCache llmResultCache;
+    private final ExecutorService workers = Executors.newFixedThreadPool(WORKERS, r -> {
+        Thread t = new Thread(r, "news-summary");
+        t.setDaemon(true);
+        return t;
+    });
+
+    // 같은 기사가 계속 실패하면(본문 이상 등) 몇 번 뒤엔 포기 → givenUp(포기 시각)에 넣고 LOOKBACK이 지나면 정리
+    private final LruCache<Long, Integer> failures = new LruCache<>(1000);
+    private final Map<Long, Instant> givenUp = new ConcurrentHashMap<>();
+
+    private volatile Instant pausedUntil = Instant.EPOCH;
+    private volatile Duration pause = PAUSE_MIN;
+
+    /** 기사 본문 요약 (같은 본문이면 저장된 결과 재사용) */
+    public String summarize(String content) {
+        return llmResultCache.getOrCompute("news-summary", MODEL, SUMMARY_PROMPT_VERSION, content,
+                () -> llmClient.chat(MODEL, "Answer in Korean", "다음 기사를 3~4문장으로 요약해줘 :\n" + content));
+    }
+
+    /** 요약 대기 기사 한 배치 처리 (스케줄러에서 fixedDelay로 호출 → 배치끼리 겹치지 않음) */
+    public void summarizePending() throws InterruptedException {
+        if (Instant.now().isBefore(pausedUntil)) return;
+
+        Instant expired = Instant.now().minus(LOOKBACK);
+        givenUp.values().removeIf(at -> at.isBefore(expired)); // 이미 조회 범위 밖
+        // NOT IN에 빈 목록을 넘기지 않도록 없는 id(-1)로 채움
+        List<Long> skip = givenUp.isEmpty() ? List.of(-1L) : List.copyOf(givenUp.keySet());
+
+        List<NewsSummaryTarget> targets = newsRepository.findSummaryTargets(
+                LocalDateTime.now().minus(LOOKBACK), skip, PageRequest.of(0, BATCH_SIZE));
+
+        AtomicBoolean rateLimited = new AtomicBoolean(false);
+        List<Callable<Boolean>> tasks = new ArrayList<>(targets.size());
+        for (NewsSummaryTarget target : targets) {
+            tasks.add(() -> {
+                if (rateLimited.get()) return false; // 이미 429 → 남은 건 다음 배치로
+                try {
+                    String summary = summarize(target.getContent());
+                    if (summary == null || summary.isBlank()) {
+                        markFailed(target.getId());
+                        log.warn("[NewsSummary] 빈 요약 newsId={}", target.getId());
+                        return false;
+                    }
+                    newsRepository.updateSummary(target.getId(), summary.trim());
+                    return true;
+                } catch (LlmException e) {
+                    if (e.getStatus() == 429) rateLimited.set(true);
+                    else markFailed(target.getId());
+                    log.warn("[NewsSummary] 요약 실패 newsId={}, msg={}", target.getId(), e.getMessage());
+                    return false;
+                } catch (RuntimeException e) {
+                    markFailed(target.getId());
+                    log.warn("[NewsSummary] 요약 실패 newsId={}, msg={}", target.getId(), e.getMessage());
+                    return false;
+                }
+            });
+        }
+
+        if (tasks.isEmpty()) return;
+
+        int done = 0;
+        for (var f : workers.invokeAll(tasks)) {
+            try {
+                if (Boolean.TRUE.equals(f.get())) done++;
+            } catch (Exception ignored) {
+                // 각 작업에서 이미 로깅
+            }
+        }
+
+        if (rateLimited.get()) {
+            pausedUntil = Instant.now().plus(pause);
+            log.warn("[NewsSummary] LLM 레이트 리밋 → {}초 휴식 ({}/{}건 완료)", pause.toSeconds(), done, tasks.size());
+            pause = pause.multipliedBy(2).compareTo(PAUSE_MAX) > 0 ? PAUSE_MAX : pause.multipliedBy(2);
+        } else {
+            pause = PAUSE_MIN;
+            log.info("[NewsSummary] 요약 저장 {}/{}건", done, tasks.size());
+        }
+    }
+
+    private void markFailed(Long newsId) {
+        synchronized (failures) {
+            Integer prev = failures.get(newsId);
+            int n = (prev == null) ? 1 : prev + 1;
+            failures.put(newsId, n);
+            if (n >= MAX_FAILURES) {
+                givenUp.put(newsId, Instant.now());
+                failures.remove(newsId);
+                log.warn("[NewsSummary] {}번 실패 → 요약 포기 newsId={}", n, newsId);
+            }
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        workers.shutdownNow();
+    }
+}
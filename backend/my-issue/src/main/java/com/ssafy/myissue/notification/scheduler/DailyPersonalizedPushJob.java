@@ -33,6 +33,8 @@ public class DailyPersonalizedPushJob {
     private final NewsRepository newsRepository;
     private final NotificationRepository notificationRepository;
 
+    private static final int PUSH_SUMMARY_MAX_CHARS = 80;
+
     @Scheduled(cron = "0 30 8,20 * * *", /* 매일 오전 8시 30분 */ zone = "Asia/Seoul")
     public void run() {
         log.debug("Running DailyPersonalizedPushJob");
@@ -103,7 +105,7 @@ public class DailyPersonalizedPushJob {
         return newsRepository.findById(newsId)
             .map(news -> {
                 final String title = "당신을 위한 맞춤 뉴스가 도착했습니다!";
-                final String body = news.getTitle();
+                final String body = pushBody(news);
                 final String thumbnail = news.getThumbnail() != null
                     ? news.getThumbnail()
                     : "";
@@ -113,6 +115,16 @@ public class DailyPersonalizedPushJob {
             .orElse(null);
     }
 
+    // 제목 + 적재 시 저장된 요약 첫 문장 (요약 없으면 제목만)
+    private String pushBody(News news) {
+        String summary = news.getSummary();
+        if (summary == null || summary.isBlank()) return news.getTitle();
+
+        String first = summary.strip().split("(?<=[.!?])\\s+", 2)[0];
+        if (first.length() > PUSH_SUMMARY_MAX_CHARS) first = first.substring(0, PUSH_SUMMARY_MAX_CHARS) + "…";
+        return news.getTitle() + "\n" + first;
+    }
+
     // 성공한 알림만 DB 저장 & invalid token 정리
     private void saveNotifications(List<PersonalizedPush> pushes, List<String> invalidTokens) {
         pushes.stream()
@@ -1,7 +1,10 @@
 package com.ssafy.myissue.podcast.dto;
 
-public record PodcastResult(byte[] finalPodcast, double[] accumulatedTimes) {
-    public static PodcastResult of(byte[] finalPodcast, double[] accumulatedTimes) {
+import java.nio.file.Path;
+
+// finalPodcast: 합쳐진 WAV 임시 파일
+public record PodcastResult(Path finalPodcast, double[] accumulatedTimes) {
+    public static PodcastResult of(Path finalPodcast, double[] accumulatedTimes) {
         return new PodcastResult(finalPodcast, accumulatedTimes);
     }
 }
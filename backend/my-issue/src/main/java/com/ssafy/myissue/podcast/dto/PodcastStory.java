@@ -0,0 +1,8 @@
+package com.ssafy.myissue.podcast.dto;
+
+// 팟캐스트 대본에 들어갈 뉴스 1건 (네컷뉴스 제목 + 요약)
+public record PodcastStory(String title, String summary) {
+    public static PodcastStory of(String title, String summary) {
+        return new PodcastStory(title, summary);
+    }
+}
@@ -0,0 +1,6 @@
+package com.ssafy.myissue.podcast.dto;
+
+import java.nio.file.Path;
+
+// TTS 한 줄 결과 (wav 임시 파일 + 길이(초))
+public record TtsClip(Path wav, double durationSeconds) {}
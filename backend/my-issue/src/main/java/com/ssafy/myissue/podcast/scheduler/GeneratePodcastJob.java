@@ -1,17 +1,23 @@
 package com.ssafy.myissue.podcast.scheduler;
 
 import com.ssafy.myissue.podcast.service.PodcastService;
+import com.ssafy.myissue.podcast.service.Impl.TtsClipCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class GeneratePodcastJob {
 
+    private static final Duration CLIP_MAX_IDLE = Duration.ofDays(7);
+
     private final PodcastService podcastService;
+    private final TtsClipCache ttsClipCache;
 
     @Scheduled(cron = "0 30 23 * * *", zone = "Asia/Seoul") // 매일 23시 30분 실행
     public void run() {
@@ -24,4 +30,9 @@ public class GeneratePodcastJob {
             log.error("Podcast 생성 Job 실패: {}", e.getMessage());
         }
     }
+
+    @Scheduled(cron = "0 0 5 * * *", zone = "Asia/Seoul") // 매일 5시, 일주일 넘게 안 쓰인 TTS 클립 삭제
+    public void purgeTtsClips() {
+        ttsClipCache.purge(CLIP_MAX_IDLE);
+    }
 }
@@ -2,100 +2,180 @@ package com.ssafy.myissue.podcast.service.Impl;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.myissue.common.llm.LlmClient;
+import com.ssafy.myissue.common.llm.LlmResultCache;
+import com.ssafy.myissue.podcast.dto.PodcastStory;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.MediaType;
-import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
-import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 @Slf4j
 @Service("podcastGptService")
+@RequiredArgsConstructor
 public class GptService {
 
-    private final RestTemplate restTemplate = new RestTemplate();
-    private final ObjectMapper objectMapper = new ObjectMapper();
-
-    @Value("${gms.key}")
-    private String gmsKey;
+    // 프롬프트 바꾸면 올릴 것 (이전 저장 결과와 분리)
+    private static final int SEGMENT_PROMPT_VERSION = 1;
+    private static final int TRANSITION_PROMPT_VERSION = 1;
+    private static final int KEYWORD_PROMPT_VERSION = 1;
 
-    private String GPT_URL = "https://gms.ssafy.io/gmsapi/api.openai.com/v1/chat/completions";
+    private static final String SCRIPT_MODEL = "gpt-5";
+    private static final String LIGHT_MODEL = "gpt-5-nano"; // 연결 멘트처럼 짧은 것
+    private static final int SEGMENT_MAX_ATTEMPTS = 2;
 
-    // 공통 GPT 호출 메서드
-    private String callGpt(String model, String systemPrompt, String userPrompt) {
-        try {
-            // 요청 헤더
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_JSON);
-            headers.setBearerAuth(gmsKey);
-
-            // 요청 바디
-            Map<String, Object> body = new HashMap<>();
-            body.put("model", model);
-            body.put("messages", List.of(
-                    Map.of("role", "developer", "content", systemPrompt),
-                    Map.of("role", "user", "content", userPrompt)
-            ));
-
-            String jsonBody = objectMapper.writeValueAsString(body);
-            HttpEntity<String> entity = new HttpEntity<>(jsonBody, headers);
-
-            ResponseEntity<String> response = restTemplate.postForEntity(GPT_URL, entity, String.class);
-
-            JsonNode root = objectMapper.readTree(response.getBody());
-            return root.path("choices").get(0).path("message").path("content").asText();
-        } catch (Exception e) {
-            throw new RuntimeException("GPT 호출 실패", e);
-        }
-    }
-    // 팟캐스트 대본 생성
-    public List<List<String>> generateScript(String news) {
-        String systemPrompt =
+    private static final String HOSTS_PROMPT =
             "너는 2명의 진행자가 뉴스를 주제로 티키타카 대화를 나누는 팟캐스트 대본 전문가다. " +
                 "대본은 반드시 JSON 배열 형식으로만 출력하며, 실제 라디오처럼 자연스럽고 생동감 있는 대화를 만든다.";
 
+    private final LlmClient llmClient;
+    private final LlmResultCache llmResultCache;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    // 공통 GPT 호출 메서드 (입력이 같으면 저장된 결과 재사용 → 실패 후 재실행 시 GPT 재호출 없음)
+    private String callGpt(String task, int promptVersion, String model, String systemPrompt, String userPrompt) {
+        return llmResultCache.getOrCompute(task, model, promptVersion, systemPrompt + "\n" + userPrompt,
+                () -> llmClient.chat(model, systemPrompt, userPrompt));
+    }
+
+    /**
+     * 팟캐스트 대본 생성 (뉴스별 구간을 동시에 만들고 이어 붙임)
+     *  - 오프닝/클로징은 고정 문장, 뉴스 사이 연결 멘트는 가벼운 모델로 한 번에
+     *  - 구간은 뉴스 내용만으로 캐시 → 실패한 구간만 다시 만들고, 재실행 시 성공한 구간은 재사용
+     *  - 연결 멘트가 실패하면 멘트 없이 이어 붙임, 구간이 끝내 실패하면 전체 실패
+     */
+    public List<List<String>> generateScript(List<PodcastStory> stories) {
         String yesterday = LocalDate.now().minusDays(1)
             .format(DateTimeFormatter.ofPattern("yyyy년 M월 d일"));
 
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<List<List<String>>>> segments = new ArrayList<>(stories.size());
+            for (PodcastStory story : stories) {
+                segments.add(executor.submit(() -> generateSegment(story)));
+            }
+            Future<List<String>> transitions = executor.submit(() -> generateTransitions(stories));
+
+            List<List<String>> script = new ArrayList<>();
+            script.add(List.of("1", "안녕하세요, " + yesterday + " 하루 동안 있었던 중요한 소식들을 전해드립니다."));
+            List<String> bridges = awaitTransitions(transitions, stories.size() - 1);
+            for (int i = 0; i < segments.size(); i++) {
+                if (i > 0 && bridges.get(i - 1) != null) {
+                    // 직전 발화자와 다른 진행자가 화제를 넘김
+                    String previous = script.get(script.size() - 1).get(0);
+                    script.add(List.of("1".equals(previous) ? "2" : "1", bridges.get(i - 1)));
+                }
+                script.addAll(awaitSegment(segments.get(i), segments, i));
+            }
+            script.add(List.of("1", "오늘 준비한 뉴스는 여기까지입니다. 함께 해주셔서 감사합니다."));
+            script.add(List.of("2", "네, 다음 시간에도 중요한 소식으로 찾아뵙겠습니다. 청취해주셔서 고맙습니다."));
+            return script;
+        }
+    }
+
+    // 뉴스 1건 구간 (파싱/형식 오류 등으로 실패하면 이 구간만 다시)
+    private List<List<String>> generateSegment(PodcastStory story) {
         String userPrompt =
-            "아래는 어제의 주요 뉴스 목록이다. 각 뉴스는 제목과 요약으로 구성되어 있다:\n\n" +
-                news + "\n\n" +
+            "아래 뉴스 한 건을 두 진행자가 대화로 풀어내는 팟캐스트 구간 대본을 작성해라:\n\n" +
+                "제목: " + story.title() + "\n" +
+                "요약: " + story.summary() + "\n\n" +
                 "조건:\n" +
                 "- 두 명의 진행자는 [1], [2]로 구분한다.\n" +
                 "- 각 발화는 2~3문장, 10~15초 분량으로 작성한다.\n" +
                 "- 절대 뉴스 기사처럼 나열하거나 에세이식으로 설명하지 말고, 반드시 서로 주고받는 대화로 작성한다.\n" +
                 "- 한 명이 설명하면 다른 한 명은 질문·맞장구·농담·짧은 의견을 덧붙이며 티키타카 대화를 이어간다.\n" +
                 "- 진행자는 항상 서로의 말을 받아서 연결한다. 반박이나 감탄도 섞어서 실제 대화처럼 만든다.\n" +
-                "- 각 뉴스는 최소 6~10턴 이상 대화로 풀어낸다.\n" +
-                "- 뉴스 전환 시 '다음은'이라고만 하지 말고, 앞 뉴스와 연결되도록 자연스럽게 이어간다.\n" +
-                "- 전체 뉴스는 총 60턴(120문장) 이상으로 작성하여, 최소 15분 이상 분량이 되도록 한다.\n" +
-                "- 시작은 항상 [1, \"안녕하세요, " + yesterday + " 하루 동안 있었던 중요한 소식들을 전해드립니다.\"] 로 시작한다.\n" +
-                "- 마지막은 항상 [1, \"오늘 준비한 뉴스는 여기까지입니다. 함께 해주셔서 감사합니다.\"], " +
-                "[2, \"네, 다음 시간에도 중요한 소식으로 찾아뵙겠습니다. 청취해주셔서 고맙습니다.\"] 로 마무리한다.\n" +
+                "- 6~10턴 대화로 풀어낸다.\n" +
+                "- 인사말, 마무리 인사, 다른 뉴스로 넘어가는 멘트는 넣지 않는다. (앞뒤는 따로 붙는다)\n" +
                 "- 반드시 JSON 배열 형식으로만 출력한다.\n" +
                 "예시:\n" +
-                "[[1, \"안녕하세요, 어제 하루 동안 있었던 중요한 소식들을 함께 살펴보겠습니다.\"], " +
-                "[2, \"네, 첫 번째 뉴스는 군인 미순직 재조사 소식이었습니다.\"], " +
-                "[1, \"맞습니다, 숫자가 3만8천 명이 넘는다니 충격적입니다.\"], " +
+                "[[1, \"군인 미순직 재조사 소식, 숫자가 3만8천 명이 넘는다니 충격적입니다.\"], " +
                 "[2, \"특히 유가족 입장에서는 시급한 보상이 필요한 문제일 수밖에 없습니다.\"]]";
 
-        String content = callGpt("gpt-5", systemPrompt, userPrompt);
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return parseLines(callGpt("podcast-segment", SEGMENT_PROMPT_VERSION, SCRIPT_MODEL, HOSTS_PROMPT, userPrompt),
+                        "podcast-segment", SEGMENT_PROMPT_VERSION, SCRIPT_MODEL, HOSTS_PROMPT + "\n" + userPrompt);
+            } catch (RuntimeException e) {
+                if (attempt >= SEGMENT_MAX_ATTEMPTS) throw e;
+                log.warn("[Podcast] 구간 대본 재시도 (attempt={}) 제목={}: {}", attempt, story.title(), e.getMessage());
+            }
+        }
+    }
+
+    // 뉴스 사이 연결 멘트 (stories.size() - 1개)
+    private List<String> generateTransitions(List<PodcastStory> stories) throws JsonProcessingException {
+        if (stories.size() < 2) return List.of();
 
+        StringBuilder titles = new StringBuilder();
+        for (int i = 0; i < stories.size(); i++) {
+            titles.append(i + 1).append(") ").append(stories.get(i).title()).append("\n");
+        }
+        String systemPrompt = "너는 라디오 팟캐스트 진행자의 연결 멘트를 쓰는 작가다. 반드시 JSON 배열 형식으로만 출력한다.";
+        String userPrompt =
+            "아래는 팟캐스트에서 순서대로 다룰 뉴스 제목이다:\n\n" + titles + "\n" +
+                "조건:\n" +
+                "- 각 뉴스에서 다음 뉴스로 넘어갈 때 진행자가 할 한 문장짜리 연결 멘트를 작성한다.\n" +
+                "- '다음은'이라고만 하지 말고, 앞 뉴스와 연결되도록 자연스럽게 이어간다.\n" +
+                "- 정확히 " + (stories.size() - 1) + "개의 문자열로 된 JSON 배열만 출력한다. (i번째 = i번 뉴스 → i+1번 뉴스)";
+
+        String content = callGpt("podcast-transition", TRANSITION_PROMPT_VERSION, LIGHT_MODEL, systemPrompt, userPrompt);
+        List<String> transitions = objectMapper.readValue(content, new TypeReference<>() {});
+        if (transitions.size() != stories.size() - 1 || transitions.stream().anyMatch(t -> t == null || t.isBlank())) {
+            llmResultCache.evict("podcast-transition", LIGHT_MODEL, TRANSITION_PROMPT_VERSION, systemPrompt + "\n" + userPrompt);
+            throw new IllegalStateException("연결 멘트 개수 불일치: " + transitions.size());
+        }
+        return transitions;
+    }
+
+    // [[발화자, 대사], ...] 형식 확인, 아니면 저장된 결과 제거 후 실패 (다음 시도에서 새로 생성)
+    private List<List<String>> parseLines(String content, String task, int promptVersion, String model, String input) {
         try {
-            return objectMapper.readValue(content, new TypeReference<>() {});
+            List<List<String>> lines = objectMapper.readValue(content, new TypeReference<>() {});
+            boolean valid = !lines.isEmpty() && lines.stream().allMatch(line -> line.size() == 2
+                    && ("1".equals(line.get(0)) || "2".equals(line.get(0)))
+                    && line.get(1) != null && !line.get(1).isBlank());
+            if (valid) return lines;
         } catch (JsonProcessingException e) {
-            throw new RuntimeException("GPT 대본 응답 파싱 실패", e);
+            log.debug("[Podcast] 대본 JSON 파싱 실패: {}", e.getMessage());
+        }
+        llmResultCache.evict(task, model, promptVersion, input);
+        throw new IllegalStateException("GPT 대본 응답 파싱 실패");
+    }
+
+    private List<List<String>> awaitSegment(Future<List<List<String>>> segment,
+                                            List<Future<List<List<String>>>> all, int index) {
+        try {
+            return segment.get();
+        } catch (ExecutionException e) {
+            all.forEach(f -> f.cancel(true));
+            throw new RuntimeException((index + 1) + "번째 뉴스 대본 생성 실패", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            all.forEach(f -> f.cancel(true));
+            throw new RuntimeException("대본 생성 중단", e);
+        }
+    }
+
+    private List<String> awaitTransitions(Future<List<String>> transitions, int count) {
+        try {
+            return transitions.get();
+        } catch (ExecutionException e) {
+            log.warn("[Podcast] 연결 멘트 생성 실패(멘트 없이 진행): {}", e.getCause().getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            transitions.cancel(true);
         }
+        return Collections.nCopies(Math.max(0, count), null);
     }
 
     // 키워드 추출 메서드
@@ -106,11 +186,12 @@ public class GptService {
                         "출력은 반드시 JSON 배열 형식으로만 해.\n\n" +
                         scripts;
 
-        String content = callGpt("gpt-5-nano", systemPrompt, userPrompt);
+        String content = callGpt("podcast-keywords", KEYWORD_PROMPT_VERSION, "gpt-5-nano", systemPrompt, userPrompt);
 
         try {
             return objectMapper.readValue(content, new TypeReference<>() {});
         } catch (JsonProcessingException e) {
+            llmResultCache.evict("podcast-keywords", "gpt-5-nano", KEYWORD_PROMPT_VERSION, systemPrompt + "\n" + userPrompt);
             throw new RuntimeException("GPT 키워드 응답 파싱 실패", e);
         }
 
@@ -0,0 +1,75 @@
+package com.ssafy.myissue.podcast.service.Impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 팟캐스트 생성 체크포인트 (Redis, 날짜별 1개)
+ *  - 대본/키워드는 llm_result, 줄별 음성은 TtsClipCache가 이미 재사용 → 여기선 업로드 결과(URL + 줄별 시작 시간)만 저장
+ *  - 업로드 후 DB 저장에서 실패하면 재실행 시 합성/합치기/업로드 없이 바로 DB 저장
+ *  - 대본 해시가 다르면(대본이 바뀜) 체크포인트 무시
+ *  Redis 오류는 체크포인트 없이 처음부터 진행 (생성 자체는 실패시키지 않음)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PodcastCheckpoint {
+
+    private static final String KEY_PREFIX = "podcast:checkpoint:";
+    private static final Duration TTL = Duration.ofDays(2);
+
+    public record Uploaded(String scriptHash, String audioUrl, double[] accumulatedTimes) {}
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    public Optional<Uploaded> findUpload(LocalDate date, String scriptHash) {
+        try {
+            String json = stringRedisTemplate.opsForValue().get(KEY_PREFIX + date);
+            if (json == null) return Optional.empty();
+            Uploaded uploaded = objectMapper.readValue(json, Uploaded.class);
+            if (!uploaded.scriptHash().equals(scriptHash)) {
+                log.info("[PodcastCheckpoint] 대본이 바뀌어 체크포인트 무시: {}", date);
+                return Optional.empty();
+            }
+            return Optional.of(uploaded);
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.warn("[PodcastCheckpoint] 조회 실패(처음부터 진행): {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    public void saveUpload(LocalDate date, Uploaded uploaded) {
+        try {
+            stringRedisTemplate.opsForValue().set(KEY_PREFIX + date, objectMapper.writeValueAsString(uploaded), TTL);
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.warn("[PodcastCheckpoint] 저장 실패: {}", e.getMessage());
+        }
+    }
+
+    public static String scriptHash(List<List<String>> script) {
+        try {
+            MessageDigest md = MessageDigest.getInstance("SHA-256");
+            for (List<String> line : script) {
+                md.update(String.join("\u0000", line).getBytes(StandardCharsets.UTF_8));
+                md.update((byte) '\n');
+            }
+            return HexFormat.of().formatHex(md.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
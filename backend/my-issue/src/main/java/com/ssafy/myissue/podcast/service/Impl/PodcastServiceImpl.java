@@ -2,6 +2,7 @@ package com.ssafy.myissue.podcast.service.Impl;
 
 import com.ssafy.myissue.common.exception.CustomException;
 import com.ssafy.myissue.common.exception.ErrorCode;
+import com.ssafy.myissue.common.storage.ObjectStorage;
 import com.ssafy.myissue.common.util.AudioUtils;
 import com.ssafy.myissue.news.domain.News;
 import com.ssafy.myissue.news.infrastructure.NewsRepository;
@@ -11,7 +12,9 @@ import com.ssafy.myissue.podcast.domain.PodcastSubtitle;
 import com.ssafy.myissue.podcast.dto.PodcastDetailNewsList;
 import com.ssafy.myissue.podcast.dto.PodcastResponse;
 import com.ssafy.myissue.podcast.dto.PodcastResult;
+import com.ssafy.myissue.podcast.dto.PodcastStory;
 import com.ssafy.myissue.podcast.dto.Subtitles;
+import com.ssafy.myissue.podcast.dto.TtsClip;
 import com.ssafy.myissue.podcast.infrastructure.PodcastNewsRepository;
 import com.ssafy.myissue.podcast.infrastructure.PodcastRepository;
 import com.ssafy.myissue.podcast.infrastructure.PodcastSubtitleRepository;
@@ -20,13 +23,27 @@ import com.ssafy.myissue.toons.domain.Toons;
 import com.ssafy.myissue.toons.infrastructure.ToonsRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Slf4j
 @Service
@@ -41,7 +58,16 @@ public class PodcastServiceImpl implements PodcastService {
 
     private final GptService gptService;
     private final TtsService ttsService;
-    private final S3Service s3Service;
+    private final ObjectStorage objectStorage;
+    private final TtsClipCache ttsClipCache;
+    private final PodcastCheckpoint podcastCheckpoint;
+    private final TransactionTemplate transactionTemplate;
+
+    private static final int TTS_MAX_ATTEMPTS = 3;
+    private static final Duration TTS_BACKOFF = Duration.ofSeconds(1);
+
+    @Value("${podcast.tts.parallelism:6}") // TTS 서버 동시 요청 수
+    private int ttsParallelism;
 
     @Override
     public PodcastResponse getPodcast(LocalDate date) {
@@ -84,12 +110,19 @@ public class PodcastServiceImpl implements PodcastService {
         return newsList;
     }
 
-    @Transactional
+    // 메서드 전체 트랜잭션 없음: GPT/TTS/업로드 동안 커넥션을 잡지 않고, 단계별 결과(llm_result 등)는 각자 바로 커밋
+    // → 뒤 단계에서 실패해도 앞 단계 결과가 남아 재실행 시 재사용. DB 저장만 짧은 트랜잭션 하나로
     @Override
     public void generateDailyPodcast() {
 
         // 어제 날짜의 네컷뉴스 10개 가져오기 --> 오늘로 수정
         LocalDate yesterday = LocalDate.now();
+        LocalDate podcastDate = yesterday.minusDays(1); // 저장되는 팟캐스트 날짜 (savePodcast와 같음)
+        if(podcastRepository.findByDate(podcastDate) != null) {
+            log.info("이미 생성된 팟캐스트가 있습니다. 생성을 건너뜁니다. {}", podcastDate);
+            return;
+        }
+
         List<Toons> topNews = toonsRepository.findByDate(yesterday);
 
         if(topNews.isEmpty()) {
@@ -98,17 +131,37 @@ public class PodcastServiceImpl implements PodcastService {
         }
         if(topNews.size() > 10) topNews = topNews.subList(0, 10);
 
-        // 대본 생성
+        // 대본 생성 (입력이 같으면 저장된 결과 재사용 → 재실행 시 GPT 호출 없음)
         List<List<String>> generatedScript = generateScript(topNews);
         // 키워드 뽑기
         List<String> keywords = generateKeywords(generatedScript);
-        // Python TTS 호출
-        PodcastResult podcastResult = callTtsService(generatedScript);
-        // S3 업로드
-        String url = s3Service.uploadPodcast(podcastResult.finalPodcast(), "podcast_" + yesterday + ".wav");
-        log.debug("✅ 팟캐스트 업로드 완료: {}", url);
-        // DB 저장
-        savePodcast(generatedScript, topNews, keywords, url, podcastResult.accumulatedTimes());
+        // TTS → 합치기 → S3 업로드 (앞선 실행에서 업로드까지 끝났으면 건너뜀)
+        String scriptHash = PodcastCheckpoint.scriptHash(generatedScript);
+        PodcastCheckpoint.Uploaded uploaded = podcastCheckpoint.findUpload(podcastDate, scriptHash)
+                .orElseGet(() -> synthesizeAndUpload(generatedScript, yesterday, podcastDate, scriptHash));
+        // DB 저장 (팟캐스트 / 뉴스 연결 / 자막을 한 트랜잭션으로)
+        List<Toons> podcastNews = topNews;
+        transactionTemplate.executeWithoutResult(status ->
+                savePodcast(generatedScript, podcastNews, keywords, uploaded.audioUrl(), uploaded.accumulatedTimes()));
+    }
+
+    // 줄별 음성(캐시 재사용) → 합친 WAV는 작업 디렉터리의 임시 파일 (끝나면 삭제) → 업로드 후 체크포인트
+    private PodcastCheckpoint.Uploaded synthesizeAndUpload(List<List<String>> script, LocalDate yesterday,
+                                                           LocalDate podcastDate, String scriptHash) {
+        Path workDir = createWorkDir();
+        try {
+            PodcastResult podcastResult = callTtsService(script, workDir);
+            String url = objectStorage.upload("podcast_" + yesterday + ".wav", "audio/wav",
+                    podcastResult.finalPodcast()).join();
+            log.debug("✅ 팟캐스트 업로드 완료: {}", url);
+
+            PodcastCheckpoint.Uploaded uploaded =
+                    new PodcastCheckpoint.Uploaded(scriptHash, url, podcastResult.accumulatedTimes());
+            podcastCheckpoint.saveUpload(podcastDate, uploaded);
+            return uploaded;
+        } finally {
+            deleteWorkDir(workDir);
+        }
     }
 
     // db 저장
@@ -131,33 +184,112 @@ public class PodcastServiceImpl implements PodcastService {
         }
     }
 
-    // python TTS 호출
-    private PodcastResult callTtsService(List<List<String>> scripts) {
-        // TTS 길이 측정 및 누적
-        List<byte[]> wavParts = new ArrayList<>();
-        double[] accumulatedTimes = new double[scripts.size()]; // 각 파트의 누적 시간 저장 배열
+    // python TTS 호출 (줄마다 병렬, 결과/누적 시간은 대본 순서대로)
+    private PodcastResult callTtsService(List<List<String>> scripts, Path workDir) {
+        Semaphore permits = new Semaphore(Math.max(1, ttsParallelism));
+        List<TtsClip> clips = new ArrayList<>(scripts.size());
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<TtsClip>> futures = new ArrayList<>(scripts.size());
+            for(int i = 0; i < scripts.size(); i++) {
+                List<String> line = scripts.get(i);
+                int part = i + 1;
+                String speaker = "voice" + line.get(0);
+                String text = line.get(1);
+                String fileName = "podcast_" + LocalDate.now().minusDays(1) + "_part" + part + ".wav";
+
+                log.debug("{} - 발화자: {}, 대본: {}", part, speaker, text);
+                futures.add(executor.submit(() -> synthesize(part, speaker, text, fileName, permits)));
+            }
+
+            // 한 줄이라도 끝내 실패하면 중단 (빠진 줄이 있는 팟캐스트는 만들지 않음)
+            for (Future<TtsClip> future : futures) {
+                clips.add(awaitClip(future, futures));
+            }
+        }
+
+        // TTS 길이 누적
+        List<Path> wavParts = new ArrayList<>(clips.size());
+        double[] accumulatedTimes = new double[clips.size()]; // 각 파트의 누적 시간 저장 배열
         double accumulatedSeconds = 0.0;
+        for(int i = 0; i < clips.size(); i++) {
+            accumulatedTimes[i] = accumulatedSeconds;
+            accumulatedSeconds += clips.get(i).durationSeconds();
+            wavParts.add(clips.get(i).wav());
+        }
+        Path finalPodcast = workDir.resolve("podcast.wav");
+        AudioUtils.mergeWavFiles(wavParts, finalPodcast); // 포맷이 다른 줄이 있으면 실패
 
-        for(int i = 0; i < scripts.size(); i++) {
-            List<String> line = scripts.get(i);
-            String speaker = "voice" + line.get(0);
-            String text = line.get(1);
+        return PodcastResult.of(finalPodcast, accumulatedTimes);
+    }
 
-            log.debug("{} - 발화자: {}, 대본: {}", i+1, speaker, text);
+    // 한 줄 TTS (캐시에 있으면 재사용, 없으면 동시 실행 수 제한 + 실패하면 이 줄만 재시도) → 끝나는 즉시 길이 계산
+    private TtsClip synthesize(int part, String speaker, String text, String fileName, Semaphore permits)
+            throws InterruptedException {
+        Optional<Path> cached = ttsClipCache.find(speaker, text);
+        if (cached.isPresent()) {
+            double duration = AudioUtils.getWavDurationinSeconds(cached.get());
+            log.debug("캐시된 음성 파일 - {} 길이: {}초", part, duration);
+            return new TtsClip(cached.get(), duration);
+        }
 
-            // TTS 서비스 호출
-            byte[] wavBytes = ttsService.convertTextToSpeech(text, speaker, "podcast_" + LocalDate.now().minusDays(1) + "_part" + (i + 1) + ".wav");
-            double duration = AudioUtils.getWavDurationinSeconds(wavBytes);
-            log.debug("생성된 음성 파일 - {} 길이: {}초", i+1, duration);
+        permits.acquire();
+        try {
+            for (int attempt = 1; ; attempt++) {
+                Path tmp = ttsClipCache.newTempFile();
+                try {
+                    ttsService.convertTextToSpeech(text, speaker, fileName, tmp);
+                    double duration = AudioUtils.getWavDurationinSeconds(tmp); // WAV가 아니면 여기서 실패 → 캐시에 안 남음
+                    log.debug("생성된 음성 파일 - {} 길이: {}초", part, duration);
+                    return new TtsClip(ttsClipCache.store(speaker, text, tmp), duration);
+                } catch (RuntimeException e) {
+                    if (attempt >= TTS_MAX_ATTEMPTS) throw e;
+                    log.warn("TTS 재시도 - {} (attempt={}): {}", part, attempt, e.getMessage());
+                    Thread.sleep(TTS_BACKOFF.toMillis() * attempt);
+                } finally {
+                    deleteQuietly(tmp); // store() 후에는 이미 옮겨져 없음
+                }
+            }
+        } finally {
+            permits.release();
+        }
+    }
 
-            accumulatedTimes[i] = accumulatedSeconds;
-            accumulatedSeconds += duration;
+    private TtsClip awaitClip(Future<TtsClip> future, List<Future<TtsClip>> all) {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            all.forEach(f -> f.cancel(true));
+            throw new RuntimeException("TTS 변환 실패", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            all.forEach(f -> f.cancel(true));
+            throw new RuntimeException("TTS 변환 중단", e);
+        }
+    }
 
-            wavParts.add(wavBytes);
+    private Path createWorkDir() {
+        try {
+            return Files.createTempDirectory("podcast-");
+        } catch (IOException e) {
+            throw new UncheckedIOException("팟캐스트 작업 디렉터리 생성 실패", e);
         }
-        byte[] finalPodcast = AudioUtils.mergeWavFiles(wavParts);
+    }
 
-        return PodcastResult.of(finalPodcast, accumulatedTimes);
+    private void deleteWorkDir(Path workDir) {
+        try (Stream<Path> files = Files.walk(workDir)) {
+            files.sorted(Comparator.reverseOrder()).forEach(this::deleteQuietly);
+        } catch (IOException e) {
+            log.warn("팟캐스트 작업 디렉터리 삭제 실패: {}", workDir);
+        }
+    }
+
+    private void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("임시 파일 삭제 실패: {}", file);
+        }
     }
 
     // 키워드 생성
@@ -170,20 +302,14 @@ public class PodcastServiceImpl implements PodcastService {
         return gptService.extractKeywords(fullScript);
     }
 
-    // 대본 생성
+    // 대본 생성 (뉴스별 구간 병렬 생성 → 순위 순서대로 이어 붙임)
     private List<List<String>> generateScript(List<Toons> topNews) {
-        StringBuilder prompt = new StringBuilder();
-        for(int i = 0; i < topNews.size(); i++) {
-            Toons news = topNews.get(i);
-
+        List<PodcastStory> stories = new ArrayList<>(topNews.size());
+        for(Toons news : topNews) {
             log.debug("뉴스 제목: {}", news.getTitle());
-
-            prompt.append(i + 1).append(") 제목: ")
-                    .append(news.getTitle()).append("\n")
-                    .append("   요약: ").append(news.getSummary()).append("\n\n");
+            stories.add(PodcastStory.of(news.getTitle(), news.getSummary()));
         }
-        log.debug("생성된 프롬프트: \n{}", prompt.toString());
 
-        return gptService.generateScript(prompt.toString());
+        return gptService.generateScript(stories);
     }
 }
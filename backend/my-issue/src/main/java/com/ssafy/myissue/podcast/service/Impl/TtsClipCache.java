@@ -0,0 +1,109 @@
+package com.ssafy.myissue.podcast.service.Impl;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * TTS 줄 단위 WAV 디스크 캐시 (키: sha256(버전, 목소리, 언어, 대사))
+ *  - 같은 대사/목소리면 TTS 서버를 다시 부르지 않음 → 실패 후 재실행은 못 만든 줄만 합성
+ *  - 쓰기는 캐시 디렉터리 안 임시 파일 → 원자적 이동 (쓰다 만 파일이 캐시에 보이지 않음)
+ *  - 조회될 때마다 수정 시각 갱신, 오래 안 쓰인 파일은 purge()로 삭제
+ */
+@Slf4j
+@Component
+public class TtsClipCache {
+
+    private static final int CLIP_VERSION = 1; // TTS 서버 모델/목소리가 바뀌면 올릴 것
+
+    private final Path root;
+
+    public TtsClipCache(@Value("${podcast.tts.cache-dir:./tts-cache}") String root) {
+        this.root = Path.of(root).toAbsolutePath().normalize();
+    }
+
+    public Optional<Path> find(String voice, String text) {
+        Path clip = path(voice, text);
+        try {
+            if (!Files.isRegularFile(clip) || Files.size(clip) == 0) return Optional.empty();
+            Files.setLastModifiedTime(clip, FileTime.from(Instant.now()));
+            return Optional.of(clip);
+        } catch (IOException e) {
+            return Optional.empty(); // 그 사이 purge 등으로 사라짐 → 다시 합성
+        }
+    }
+
+    /** 합성 결과를 쓸 임시 파일 (캐시와 같은 파일시스템 → store()에서 원자적 이동 가능) */
+    public Path newTempFile() {
+        try {
+            Files.createDirectories(root);
+            return Files.createTempFile(root, ".clip-", ".tmp");
+        } catch (IOException e) {
+            throw new UncheckedIOException("TTS 캐시 임시 파일 생성 실패", e);
+        }
+    }
+
+    /** 다 쓴 임시 파일을 캐시에 등록하고 캐시 경로 반환 */
+    public Path store(String voice, String text, Path tmp) {
+        Path clip = path(voice, text);
+        try {
+            Files.createDirectories(clip.getParent());
+            Files.move(tmp, clip, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            return clip;
+        } catch (IOException e) {
+            throw new UncheckedIOException("TTS 캐시 저장 실패: " + clip, e);
+        }
+    }
+
+    /** maxIdle 동안 조회되지 않은 파일 삭제 (남은 임시 파일 포함) */
+    public void purge(Duration maxIdle) {
+        if (!Files.isDirectory(root)) return;
+        Instant cutoff = Instant.now().minus(maxIdle);
+        int deleted = 0;
+        try (Stream<Path> files = Files.walk(root)) {
+            for (Path file : (Iterable<Path>) files.filter(Files::isRegularFile)::iterator) {
+                try {
+                    if (Files.getLastModifiedTime(file).toInstant().isBefore(cutoff)) {
+                        Files.deleteIfExists(file);
+                        deleted++;
+                    }
+                } catch (IOException e) {
+                    log.warn("[TtsClipCache] 삭제 실패: {}", file);
+                }
+            }
+        } catch (IOException e) {
+            log.warn("[TtsClipCache] 정리 실패: {}", e.getMessage());
+        }
+        log.info("[TtsClipCache] 오래된 클립 {}개 삭제", deleted);
+    }
+
+    // 앞 2글자로 하위 디렉터리 분산 (한 디렉터리에 파일이 몰리지 않게)
+    private Path path(String voice, String text) {
+        String hash = sha256(CLIP_VERSION + "\n" + voice + "\n" + TtsService.LANGUAGE + "\n" + text);
+        return root.resolve(hash.substring(0, 2)).resolve(hash + ".wav");
+    }
+
+    private String sha256(String s) {
+        try {
+            MessageDigest md = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(md.digest(s.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
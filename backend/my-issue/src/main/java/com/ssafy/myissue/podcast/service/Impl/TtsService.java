@@ -3,11 +3,14 @@ package com.ssafy.myissue.podcast.service.Impl;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.MediaType;
-import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
 
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -15,28 +18,31 @@ import java.util.Map;
 @Service
 public class TtsService {
 
+    public static final String LANGUAGE = "ko";
+
     private final RestTemplate restTemplate = new RestTemplate();
     private final String ttsUrl = "http://j13d101.p.ssafy.io/fastapi/api/tts/synthesize";
 
-    public byte[] convertTextToSpeech(String text, String voice, String fileName) {
+    // 응답 WAV를 메모리에 모으지 않고 target 파일로 바로 씀
+    public void convertTextToSpeech(String text, String voice, String fileName, Path target) {
         Map<String, String> request = new HashMap<>();
 
         request.put("text", text);
         request.put("voice", voice);
-        request.put("language", "ko");
+        request.put("language", LANGUAGE);
         request.put("filename", fileName);
 
         HttpHeaders headers = new HttpHeaders();
         headers.setContentType(MediaType.APPLICATION_JSON);
 
         HttpEntity<Map<String, String>> entity = new HttpEntity<>(request, headers);
-        ResponseEntity<byte[]> response = restTemplate.postForEntity(ttsUrl, entity, byte[].class);
-
-        if(response.getStatusCode().is2xxSuccessful()) {
-            return response.getBody();
-        } else {
-            log.error("TTS 변환 실패: " + response.getStatusCode());
-            throw new RuntimeException("TTS 요청 실패: " + response.getStatusCode());
-        }
+        restTemplate.execute(ttsUrl, HttpMethod.POST, restTemplate.httpEntityCallback(entity), response -> {
+            if(!response.getStatusCode().is2xxSuccessful()) {
+                log.error("TTS 변환 실패: " + response.getStatusCode());
+                throw new RuntimeException("TTS 요청 실패: " + response.getStatusCode());
+            }
+            Files.copy(response.getBody(), target, StandardCopyOption.REPLACE_EXISTING);
+            return null;
+        });
     }
 }
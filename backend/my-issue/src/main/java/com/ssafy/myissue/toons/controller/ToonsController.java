@@ -1,6 +1,6 @@
 package com.ssafy.myissue.toons.controller;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
+import com.ssafy.myissue.news.dto.CursorPage;
 import com.ssafy.myissue.toons.dto.ToonResponse;
 import com.ssafy.myissue.toons.service.ToonsService;
 import com.ssafy.myissue.toons.service.ToonGeneratorService;
@@ -58,11 +58,17 @@ public class ToonsController {
         return ResponseEntity.noContent().build();
     }
 
-    // 내가 좋아요한 네컷뉴스 조회
+    // 내가 좋아요한 네컷뉴스 조회 (커서 페이지)
     @GetMapping("/likes")
-    public ResponseEntity<List<ToonResponse>> getUserLikedToons(@AuthenticationPrincipal Long userId) {
+    public ResponseEntity<CursorPage<ToonResponse>> getUserLikedToons(@AuthenticationPrincipal Long userId,
+                                                                     @RequestParam(value = "cursor", required = false) String cursor,
+                                                                     @RequestParam(value = "size", required = false, defaultValue = "20") Integer size) {
         requireUser(userId);
-        return ResponseEntity.ok(toonsService.getUserLikedToons(userId));
+        return ResponseEntity.ok(toonsService.getUserLikedToons(userId, cursor, safeSize(size, 20, 50)));
+    }
+    private int safeSize(Integer raw, int def, int max) {
+        if (raw == null || raw <= 0) return def;
+        return Math.min(raw, max);
     }
     private void requireUser(Long userId) {
         if (userId == null) {
@@ -71,7 +77,7 @@ public class ToonsController {
     }
 
     @PostMapping("/generate-daily")
-    public ResponseEntity<Void> generateDailyToons() throws JsonProcessingException {
+    public ResponseEntity<Void> generateDailyToons() {
         toonGeneratorService.generateDailyToons();
         return ResponseEntity.ok().build();
     }
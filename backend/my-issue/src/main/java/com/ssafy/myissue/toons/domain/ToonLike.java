@@ -12,6 +12,10 @@ import lombok.*;
 @Table(
         uniqueConstraints = {
                 @UniqueConstraint(columnNames = {"user_id", "toon_id"})
+        },
+        indexes = {
+                // 내가 좋아요한 네컷 무한 스크롤 (toon_like_id desc 키셋)
+                @Index(name = "idx_toon_like_user_liked", columnList = "user_id, liked, toon_like_id")
         }
 )
 public class ToonLike {
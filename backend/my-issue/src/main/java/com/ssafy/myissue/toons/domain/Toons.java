@@ -10,6 +10,11 @@ import java.time.LocalDate;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @Builder
+@Table(
+        indexes = {
+                @Index(name = "idx_toons_date", columnList = "date, toon_id")
+        }
+)
 public class Toons {
 
     @Id
@@ -22,6 +27,11 @@ public class Toons {
     @Column(nullable = true)
     private String toonImage;
 
+    // 크기별 JPEG 사본 (피드 썸네일 / 스와이프 카드 / 상세), 생성 실패 시 null → toonImage 사용
+    private String toonImage256;
+    private String toonImage512;
+    private String toonImage1024;
+
     @Column(columnDefinition = "text")
     private String summary;
 
@@ -30,4 +40,13 @@ public class Toons {
 
     @Column(nullable = false)
     private LocalDate date;
+
+    // 반응 집계 (Redis 카운터에서 주기적으로 반영)
+    @Builder.Default
+    @Column(nullable = false, columnDefinition = "integer default 0")
+    private int likeCount = 0;
+
+    @Builder.Default
+    @Column(nullable = false, columnDefinition = "integer default 0")
+    private int dislikeCount = 0;
 }
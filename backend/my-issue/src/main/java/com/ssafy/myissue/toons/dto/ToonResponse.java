@@ -15,6 +15,9 @@ public class ToonResponse {
     private Long toonId;
     private Long newsId;
     private String toonImage;
+    private String toonImage256;
+    private String toonImage512;
+    private String toonImage1024;
     private String summary;
     private String title;
     private LocalDate date;
@@ -24,6 +27,9 @@ public class ToonResponse {
                 .toonId(toon.getToonId())
                 .newsId(toon.getNewsId())
                 .toonImage(toon.getToonImage())
+                .toonImage256(toon.getToonImage256())
+                .toonImage512(toon.getToonImage512())
+                .toonImage1024(toon.getToonImage1024())
                 .summary(toon.getSummary())
                 .title(toon.getTitle())
                 .date(toon.getDate())
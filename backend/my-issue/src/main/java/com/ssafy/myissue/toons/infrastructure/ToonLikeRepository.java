@@ -2,13 +2,49 @@ package com.ssafy.myissue.toons.infrastructure;
 
 import com.ssafy.myissue.toons.domain.ToonLike;
 import com.ssafy.myissue.toons.domain.Toons;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 
 public interface ToonLikeRepository extends JpaRepository<ToonLike, Long> {
 
     Optional<ToonLike> findByUserIdAndToon(Long userId, Toons toon);
-    List<ToonLike> findByUserIdAndLikedTrue(Long userId);
+
+    // 내가 좋아요한 네컷: (user_id, liked, toon_like_id) 키셋 + toon fetch join
+    @Query("SELECT l FROM ToonLike l JOIN FETCH l.toon " +
+            "WHERE l.userId = :userId AND l.liked = true ORDER BY l.toonLikeId DESC")
+    List<ToonLike> findLikedFirstPage(@Param("userId") Long userId, Pageable pageable);
+
+    @Query("SELECT l FROM ToonLike l JOIN FETCH l.toon " +
+            "WHERE l.userId = :userId AND l.liked = true AND l.toonLikeId < :lastId ORDER BY l.toonLikeId DESC")
+    List<ToonLike> findLikedAfter(@Param("userId") Long userId, @Param("lastId") Long lastId, Pageable pageable);
+
+    @Query("SELECT l.toon.toonId FROM ToonLike l WHERE l.userId = :userId AND l.toon.date >= :cutoff")
+    List<Long> findReactedToonIds(@Param("userId") Long userId, @Param("cutoff") LocalDate cutoff);
+
+    /**
+     * 좋아요/싫어요 upsert (문장 1개, (user_id, toon_id) 유니크 충돌 없음)
+     * @return true = 새로 반응, false = 반대로 바뀜, empty = 이미 같은 반응
+     */
+    @Transactional
+    @Query(value = "WITH up AS (" +
+            "INSERT INTO toon_like (user_id, toon_id, liked) VALUES (:userId, :toonId, :liked) " +
+            "ON CONFLICT (user_id, toon_id) DO UPDATE SET liked = EXCLUDED.liked " +
+            "WHERE toon_like.liked IS DISTINCT FROM EXCLUDED.liked " +
+            "RETURNING (xmax = 0) AS inserted" +
+            ") SELECT inserted FROM up", nativeQuery = true)
+    Optional<Boolean> upsert(@Param("userId") Long userId, @Param("toonId") Long toonId, @Param("liked") boolean liked);
+
+    /** 반응 삭제 → 지워진 반응 값 (없었으면 empty) */
+    @Transactional
+    @Query(value = "WITH del AS (" +
+            "DELETE FROM toon_like WHERE user_id = :userId AND toon_id = :toonId RETURNING liked" +
+            ") SELECT liked FROM del", nativeQuery = true)
+    Optional<Boolean> deleteReaction(@Param("userId") Long userId, @Param("toonId") Long toonId);
 }
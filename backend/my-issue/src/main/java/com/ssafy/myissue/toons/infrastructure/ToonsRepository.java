@@ -2,10 +2,38 @@ package com.ssafy.myissue.toons.infrastructure;
 
 import com.ssafy.myissue.toons.domain.Toons;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.util.List;
 
 public interface ToonsRepository extends JpaRepository<Toons, Long> {
     List<Toons> findByDate(LocalDate date);
+
+    List<Toons> findByDateGreaterThanEqualOrderByToonIdAsc(LocalDate cutoff);
+
+    // 피드 SQL 폴백: 최근 네컷 중 유저가 반응하지 않은 것 (idx_toons_date + toon_like 유니크 인덱스)
+    @Query("SELECT t FROM Toons t WHERE t.date >= :cutoff " +
+            "AND NOT EXISTS (SELECT 1 FROM ToonLike l WHERE l.toon = t AND l.userId = :userId) " +
+            "ORDER BY t.toonId")
+    List<Toons> findFeed(@Param("cutoff") LocalDate cutoff, @Param("userId") Long userId);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE Toons t SET t.toonImage = :toonImage, t.toonImage256 = :toonImage256, " +
+            "t.toonImage512 = :toonImage512, t.toonImage1024 = :toonImage1024 WHERE t.toonId = :toonId")
+    int updateToonImages(@Param("toonId") Long toonId,
+                         @Param("toonImage") String toonImage,
+                         @Param("toonImage256") String toonImage256,
+                         @Param("toonImage512") String toonImage512,
+                         @Param("toonImage1024") String toonImage1024);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE Toons t SET t.likeCount = t.likeCount + :likes, t.dislikeCount = t.dislikeCount + :dislikes " +
+            "WHERE t.toonId = :toonId")
+    int addReactionCounts(@Param("toonId") Long toonId, @Param("likes") int likes, @Param("dislikes") int dislikes);
 }
@@ -1,7 +1,7 @@
 package com.ssafy.myissue.toons.scheduler;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.ssafy.myissue.toons.service.ToonGeneratorService;
+import com.ssafy.myissue.toons.service.ToonReactionCounterService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
@@ -15,6 +15,7 @@ import java.util.concurrent.atomic.AtomicBoolean;
 public class ToonsScheduler { // [ADDED]
 
     private final ToonGeneratorService toonGeneratorService; // [ADDED]
+    private final ToonReactionCounterService toonReactionCounterService;
     private final AtomicBoolean running = new AtomicBoolean(false); // [ADDED]
 
     /**
@@ -32,12 +33,19 @@ public class ToonsScheduler { // [ADDED]
             log.info("[ToonsScheduler] Start daily toon generation (23:00 KST)"); // [ADDED]
             toonGeneratorService.generateDailyToons(); // [ADDED]
             log.info("[ToonsScheduler] Done in {} ms", System.currentTimeMillis() - started); // [ADDED]
-        } catch (JsonProcessingException e) {
-            log.error("[ToonsScheduler] JSON processing error", e); // [ADDED]
         } catch (Exception e) {
             log.error("[ToonsScheduler] Unexpected error", e); // [ADDED]
         } finally {
             running.set(false); // [ADDED]
         }
     }
+
+    @Scheduled(fixedDelay = 60000, initialDelay = 30000) // 1분마다 좋아요/싫어요 수 DB 반영
+    public void flushReactionCounts() {
+        try {
+            toonReactionCounterService.flush();
+        } catch (Exception e) {
+            log.error("[ToonsScheduler] Reaction count flush failed", e);
+        }
+    }
 }
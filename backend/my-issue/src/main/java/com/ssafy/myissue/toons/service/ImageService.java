@@ -1,17 +1,14 @@
 package com.ssafy.myissue.toons.service;
 
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.myissue.common.llm.LlmClient;
+import com.ssafy.myissue.common.llm.LlmException;
 import lombok.RequiredArgsConstructor;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.*;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.HttpClientErrorException;
-import org.springframework.web.client.RestTemplate;
 
-import java.nio.charset.StandardCharsets;
-import java.util.*;
-import java.util.Base64;
+import java.io.OutputStream;
+import java.util.HashMap;
+import java.util.Map;
 
 /**
  * OpenAI gpt-image-1을 직접 호출하여 1024x1024 네컷만화 이미지를 생성
@@ -20,21 +17,12 @@ import java.util.Base64;
 @Service
 public class ImageService {
 
-    private final RestTemplate restTemplate = new RestTemplate();
-    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final LlmClient llmClient;
 
-    @Value("${openai.api-key}")
-    private String openaiKey;
-
-    public record ImageResult(byte[] data, String mimeType) {}
-
-    public ImageResult generateToonImage(String summary) {
-        String url = "https://api.openai.com/v1/images/generations";
-
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_JSON);
-        headers.setBearerAuth(openaiKey);
+    public static final String MIME_TYPE = "image/png";
 
+    /** 네컷 이미지를 생성해 out에 바로 씀 (응답 base64를 디코딩하면서 흘려보냄 → 이미지 전체를 메모리에 안 올림) */
+    public void generateToonImage(String summary, OutputStream out) {
         // (한글 프롬프트)
         String promptTemplate = """
 요약: REPLACE_ME
@@ -60,60 +48,24 @@ public class ImageService {
         body.put("quality", "medium"); // 비용 절감
 
         try {
-            String jsonBody = objectMapper.writeValueAsString(body);
-            HttpEntity<String> entity = new HttpEntity<>(jsonBody, headers);
-
-            ResponseEntity<String> resp = restTemplate.postForEntity(url, entity, String.class);
-
-            JsonNode root = objectMapper.readTree(resp.getBody());
-            JsonNode dataArr = root.path("data");
-            if (!dataArr.isArray() || dataArr.isEmpty()) {
-                throw new RuntimeException("OpenAI 응답에 data 배열이 없습니다: " + resp.getBody());
-            }
-
-            JsonNode first = dataArr.get(0);
-            String b64 = first.path("b64_json").asText(null);
-
-            if (b64 == null || b64.isBlank()) {
-                // [ADDED] URL 폴백
-                String urlField = first.path("url").asText(null);
-                if (urlField == null || urlField.isBlank()) {
-                    throw new RuntimeException("OpenAI 응답에 b64_json/url 필드가 없습니다: " + resp.getBody());
-                }
-                ResponseEntity<byte[]> imgResp = restTemplate.getForEntity(urlField, byte[].class);
-                byte[] imgBytes = imgResp.getBody();
-                if (imgBytes == null || imgBytes.length == 0) {
-                    throw new RuntimeException("이미지 URL에서 바이트를 받지 못했습니다: " + urlField);
-                }
-                return new ImageResult(imgBytes, "image/png");
-            }
-
-            byte[] bytes = Base64.getDecoder().decode(b64);
-            return new ImageResult(bytes, "image/png");
-
-        } catch (HttpClientErrorException e) {
-            // [ADDED] 에러 코드/메시지 파싱 및 조직 미인증 식별
-            String bodyStr = e.getResponseBodyAsString(StandardCharsets.UTF_8);
-            String msg  = extractErrorMessage(bodyStr);
+            llmClient.generateImage(body, out); // b64_json 없으면 url 폴백까지 LlmClient에서 처리
+        } catch (LlmException e) {
+            String msg = e.getErrorMessage();
 
             // 403 & 'must be verified' → 조직 미인증
-            if (e.getStatusCode() == HttpStatus.FORBIDDEN &&
+            if (e.getStatus() == HttpStatus.FORBIDDEN.value() &&
                     msg != null && msg.toLowerCase().contains("must be verified")) {
                 throw new RuntimeException("ORG_NOT_VERIFIED: " + msg, e); // [ADDED]
             }
+            // 결제 한도 초과 → 남은 건도 전부 실패하므로 호출부에서 중단
+            if ("billing_hard_limit_reached".equals(e.getErrorCode())) {
+                throw new RuntimeException("BILLING_HARD_LIMIT_REACHED: " + msg, e);
+            }
 
-            throw new RuntimeException("OpenAI Images API 요청 실패: " + e.getStatusCode() +
+            throw new RuntimeException("OpenAI Images API 요청 실패: " + e.getStatus() +
                     " msg=" + msg, e);
         } catch (Exception e) {
             throw new RuntimeException("OpenAI 이미지 생성 실패", e);
         }
     }
-
-    // [ADDED] 에러 JSON에서 message 추출
-    private String extractErrorMessage(String body) {
-        try {
-            JsonNode n = objectMapper.readTree(body);
-            return n.path("error").path("message").asText(null);
-        } catch (Exception ignored) { return body; }
-    }
 }
@@ -0,0 +1,175 @@
+package com.ssafy.myissue.toons.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.ssafy.myissue.toons.dto.ToonResponse;
+import com.ssafy.myissue.toons.infrastructure.ToonLikeRepository;
+import com.ssafy.myissue.toons.infrastructure.ToonsRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 네컷뉴스 피드 캐시
+ *  - 스냅샷: 최근 FEED_DAYS일 네컷 목록 (Redis 1개 + 인스턴스 로컬 사본), 생성 작업이 끝날 때 다시 만듦
+ *  - 반응 집합: 유저별 좋아요/싫어요 한 toonId SET → 피드 1번에 Redis 1번 조회로 필터
+ *  Redis 오류 등으로 답할 수 없으면 Optional.empty() → 호출부가 SQL(anti-join)로 폴백.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ToonFeedCacheService {
+
+    public static final int FEED_DAYS = 3;
+
+    private static final String SNAPSHOT_KEY = "toons:feed:snapshot";
+    private static final String REACTED_KEY_PREFIX = "toons:reacted:";
+    private static final String SEEDED = "0"; // 반응이 하나도 없어도 "DB에서 적재함" 표시
+
+    private static final Duration SNAPSHOT_TTL = Duration.ofDays(1);
+    private static final Duration LOCAL_TTL = Duration.ofMinutes(1); // 다른 인스턴스가 다시 만든 스냅샷 반영 주기
+    private static final Duration REACTED_TTL = Duration.ofDays(FEED_DAYS + 1);
+
+    // 집합이 이미 적재돼 있을 때만 반영 (없으면 다음 조회 때 DB에서 통째로 적재)
+    private static final RedisScript<Long> UPDATE_REACTED_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 1 then " +
+            "  return redis.call(ARGV[1], KEYS[1], ARGV[2]) " +
+            "end " +
+            "return 0",
+            Long.class);
+
+    record Snapshot(LocalDate cutoff, List<ToonResponse> toons) {}
+
+    private record LocalSnapshot(Snapshot snapshot, long loadedAt) {}
+
+    private final ToonsRepository toonsRepository;
+    private final ToonLikeRepository toonLikeRepository;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    private volatile LocalSnapshot local;
+
+    public static LocalDate cutoff() {
+        return LocalDate.now().minusDays(FEED_DAYS);
+    }
+
+    /** 유저가 아직 반응하지 않은 최근 네컷 (toonId 순) */
+    public Optional<List<ToonResponse>> findFeed(Long userId) {
+        try {
+            List<ToonResponse> toons = snapshot().toons();
+            if (toons.isEmpty()) return Optional.of(toons);
+
+            Set<Long> reacted = reactedIds(userId);
+            return Optional.of(toons.stream()
+                    .filter(t -> !reacted.contains(t.getToonId()))
+                    .toList());
+        } catch (Exception e) {
+            log.warn("[ToonFeedCache] 피드 조회 실패 → SQL 폴백: userId={}, msg={}", userId, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /** DB 기준으로 스냅샷 다시 생성 (네컷 생성 완료 시) */
+    public void rebuild() {
+        try {
+            Snapshot snapshot = load();
+            stringRedisTemplate.opsForValue().set(SNAPSHOT_KEY, objectMapper.writeValueAsString(snapshot), SNAPSHOT_TTL);
+            local = new LocalSnapshot(snapshot, System.currentTimeMillis());
+            log.info("[ToonFeedCache] 스냅샷 재생성 {}건 (cutoff={})", snapshot.toons().size(), snapshot.cutoff());
+        } catch (Exception e) {
+            log.warn("[ToonFeedCache] 스냅샷 재생성 실패: {}", e.getMessage());
+            local = null;
+        }
+    }
+
+    public void markReacted(Long userId, Long toonId) {
+        updateReacted("SADD", userId, toonId);
+    }
+
+    public void unmarkReacted(Long userId, Long toonId) {
+        updateReacted("SREM", userId, toonId);
+    }
+
+    // ================= 내부 =================
+
+    private Snapshot snapshot() throws Exception {
+        LocalDate cutoff = cutoff();
+        LocalSnapshot cached = local;
+        if (cached != null && cached.snapshot().cutoff().equals(cutoff)
+                && System.currentTimeMillis() - cached.loadedAt() < LOCAL_TTL.toMillis()) {
+            return cached.snapshot();
+        }
+
+        String json = stringRedisTemplate.opsForValue().get(SNAPSHOT_KEY);
+        Snapshot snapshot = (json == null) ? null : objectMapper.readValue(json, Snapshot.class);
+        if (snapshot == null || !snapshot.cutoff().equals(cutoff)) {
+            // 없거나 날짜가 넘어감 → DB에서 다시 (동시에 여러 번 와도 결과는 같음)
+            snapshot = load();
+            stringRedisTemplate.opsForValue().set(SNAPSHOT_KEY, objectMapper.writeValueAsString(snapshot), SNAPSHOT_TTL);
+        }
+        local = new LocalSnapshot(snapshot, System.currentTimeMillis());
+        return snapshot;
+    }
+
+    private Snapshot load() {
+        LocalDate cutoff = cutoff();
+        List<ToonResponse> toons = toonsRepository.findByDateGreaterThanEqualOrderByToonIdAsc(cutoff)
+                .stream()
+                .map(ToonResponse::from)
+                .toList();
+        return new Snapshot(cutoff, toons);
+    }
+
+    private Set<Long> reactedIds(Long userId) {
+        String key = REACTED_KEY_PREFIX + userId;
+        Set<String> members = stringRedisTemplate.opsForSet().members(key);
+
+        Set<Long> ids = new HashSet<>();
+        if (members == null || members.isEmpty()) {
+            // 첫 조회 → DB에서 피드 기간 반응만 적재
+            List<Long> reacted = toonLikeRepository.findReactedToonIds(userId, cutoff());
+            String[] values = new String[reacted.size() + 1];
+            values[0] = SEEDED;
+            for (int i = 0; i < reacted.size(); i++) {
+                values[i + 1] = String.valueOf(reacted.get(i));
+                ids.add(reacted.get(i));
+            }
+            stringRedisTemplate.opsForSet().add(key, values);
+            stringRedisTemplate.expire(key, REACTED_TTL);
+            return ids;
+        }
+
+        for (String m : members) {
+            if (!SEEDED.equals(m)) ids.add(Long.parseLong(m));
+        }
+        return ids;
+    }
+
+    private void updateReacted(String command, Long userId, Long toonId) {
+        String key = REACTED_KEY_PREFIX + userId;
+        try {
+            stringRedisTemplate.execute(UPDATE_REACTED_SCRIPT, List.of(key), command, String.valueOf(toonId));
+        } catch (Exception e) {
+            // 반영 실패 → 집합을 버려서 다음 조회 때 DB에서 다시 적재
+            log.warn("[ToonFeedCache] 반응 집합 반영 실패: userId={}, msg={}", userId, e.getMessage());
+            try {
+                stringRedisTemplate.delete(key);
+            } catch (Exception ignored) {
+                // Redis 자체가 안 되면 피드도 SQL 폴백
+            }
+        }
+    }
+}
@@ -1,32 +1,55 @@
 package com.ssafy.myissue.toons.service;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
+import com.ssafy.myissue.common.storage.ObjectStorage;
 import com.ssafy.myissue.news.domain.News;
 import com.ssafy.myissue.news.infrastructure.NewsRepository;
+import com.ssafy.myissue.news.service.NewsSummaryService;
 import com.ssafy.myissue.toons.domain.Toons;
 import com.ssafy.myissue.toons.infrastructure.ToonsRepository;
-import com.ssafy.myissue.toons.infrastructure.S3Uploader;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;            // [ADDED]
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
+import java.awt.image.BufferedImage;
+import java.io.IOException;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.ZoneId;                                         // [ADDED]
+import java.util.ArrayList;
 import java.util.List;
-
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 오늘의 네컷뉴스 생성
+ *  - 요약 → 이미지 생성(S3로 바로 스트리밍 업로드) → 크기별 JPEG 사본을 기사별로 가상 스레드에서 병렬 실행 (단계별 동시 실행 수 제한)
+ *  - 메서드 전체 트랜잭션 없음: 행 저장 / 이미지 URL 반영만 각각 짧은 트랜잭션
+ *  - 결제 한도 / 조직 미인증이면 취소 신호를 세워 아직 시작 안 한 이미지 생성은 건너뜀
+ */
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class ToonGeneratorService {
 
+    // 단계별 동시 실행 수 (gpt-image-1은 LlmClient에서도 동시 2개로 제한, 업로드는 이미지 단계 안에서 스트리밍)
+    private static final int SUMMARY_CONCURRENCY = 4;
+    private static final int IMAGE_CONCURRENCY = 2;
+    private static final int RENDITION_CONCURRENCY = 2; // 축소/JPEG 인코딩은 CPU 작업 (이미지 1장당 3개 크기 병렬)
+
     private final NewsRepository newsRepository;
     private final ToonsRepository toonsRepository;
-    private final GptService gptService;
+    private final NewsSummaryService newsSummaryService;
     private final ImageService imageService;
-    private final S3Uploader s3Uploader;
+    private final ObjectStorage objectStorage;
+    private final ToonFeedCacheService toonFeedCacheService;
+    private final ToonRenditionService toonRenditionService;
 
     @Value("${openai.enabled:true}")                             // [ADDED] (있으면 사용)
     private boolean openaiEnabled;
@@ -34,8 +57,7 @@ public class ToonGeneratorService {
     @Value("${app.timezone:Asia/Seoul}")                         // [ADDED] 기본은 KST, 필요시 환경변수로 조정
     private String appTimeZone;
 
-    @Transactional
-    public void generateDailyToons() throws JsonProcessingException {
+    public void generateDailyToons() {
         ZoneId zone = ZoneId.of(appTimeZone);
         LocalDate target = LocalDate.now(zone);
         var zStart = target.atStartOfDay(zone);
@@ -44,48 +66,132 @@ public class ToonGeneratorService {
         LocalDateTime end   = zEnd.toLocalDateTime();
 
         List<News> topNews = newsRepository.findTop10ByDate(start, end, PageRequest.of(0, 10));
+        if (topNews.isEmpty()) return;
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            // 1) 요약 (대부분 적재 시 저장된 news.summary 사용) → 순위 순서대로 한 번에 저장 (피드는 ID 순)
+            Semaphore summaryPermits = new Semaphore(SUMMARY_CONCURRENCY);
+            List<Future<String>> summaries = new ArrayList<>(topNews.size());
+            for (News news : topNews) {
+                summaries.add(executor.submit(() -> summaryOf(news, summaryPermits)));
+            }
 
-        for (News news : topNews) {
-            String summary = gptService.summarize(news.getContent());
-
-            Toons toon = Toons.builder()
-                    .newsId(news.getId())
-                    .title(news.getTitle())
-                    .summary(summary)
-                    .toonImage(null)
-                    .date(news.getCreatedAt().toLocalDate())
-                    .build();
-
-            toonsRepository.saveAndFlush(toon); // ID 확정
+            List<Toons> toons = new ArrayList<>(topNews.size());
+            for (int i = 0; i < topNews.size(); i++) {
+                News news = topNews.get(i);
+                String summary = await(summaries.get(i), news.getId());
+                if (summary == null) continue;
+                toons.add(Toons.builder()
+                        .newsId(news.getId())
+                        .title(news.getTitle())
+                        .summary(summary)
+                        .toonImage(null)
+                        .date(news.getCreatedAt().toLocalDate())
+                        .build());
+            }
+            toonsRepository.saveAll(toons); // ID 확정
 
-            if (!openaiEnabled) {                                        // [ADDED]
-                System.err.println("[ToonGeneratorService] OpenAI disabled. Skip image.");
-                continue;
+            if (openaiEnabled) {
+                renderAll(executor, toons);
+            } else {                                                     // [ADDED]
+                log.warn("[ToonGeneratorService] OpenAI disabled. Skip image.");
             }
+        }
 
-            try {
-                ImageService.ImageResult imageResult = imageService.generateToonImage(summary);
-                String extension = imageResult.mimeType().equals("image/jpeg") ? ".jpg" : ".png";
-                String fileName = "toons/" + toon.getNewsId() + extension;
+        // 피드 스냅샷 교체 (이미지 URL 반영까지 끝난 상태로)
+        toonFeedCacheService.rebuild();
+    }
 
-                String imageUrl = s3Uploader.upload(imageResult.data(), fileName, imageResult.mimeType());
-                toon.setToonImage(imageUrl);
+    // 2) 이미지 생성 → 업로드 → URL 반영 (건별로 끝나는 대로)
+    private void renderAll(ExecutorService executor, List<Toons> toons) {
+        Semaphore imagePermits = new Semaphore(IMAGE_CONCURRENCY);
+        Semaphore renditionPermits = new Semaphore(RENDITION_CONCURRENCY);
+        AtomicBoolean cancelled = new AtomicBoolean(false);
+        List<Future<Void>> jobs = new ArrayList<>(toons.size());
+        for (Toons toon : toons) {
+            jobs.add(executor.submit(() -> renderAndUpload(toon, imagePermits, renditionPermits, cancelled)));
+        }
+        for (int i = 0; i < jobs.size(); i++) {
+            await(jobs.get(i), toons.get(i).getNewsId());
+        }
+    }
 
-            } catch (RuntimeException ex) {
-                String msg = ex.getMessage() == null ? "" : ex.getMessage();
+    private String summaryOf(News news, Semaphore permits) throws InterruptedException {
+        // 적재 시 저장된 요약 사용, 아직 없으면 그때 요약 (같은 캐시 공유)
+        if (news.getSummary() != null && !news.getSummary().isBlank()) {
+            return news.getSummary();
+        }
+        permits.acquire();
+        try {
+            return newsSummaryService.summarize(news.getContent());
+        } finally {
+            permits.release();
+        }
+    }
 
-                if (msg.contains("BILLING_HARD_LIMIT_REACHED")) {
-                    System.err.println("[ToonGeneratorService] 하드 리밋 도달. 이미지 생성 중단: " + msg);
-                    break;                                                // [UNCHANGED]
+    private Void renderAndUpload(Toons toon, Semaphore imagePermits, Semaphore renditionPermits,
+                                 AtomicBoolean cancelled) throws InterruptedException {
+        // 이미지 응답을 디코딩하면서 바로 S3로 스트리밍 업로드 (생성/업로드가 한 단계), 같은 바이트로 원본 디코딩
+        String fileName = "toons/" + toon.getNewsId() + ".png";
+
+        String imageUrl;
+        BufferedImage image;
+        imagePermits.acquire();
+        try (ToonRenditionService.ImageDecoder decoder = toonRenditionService.decoder()) {
+            if (cancelled.get()) return null; // 앞선 건에서 한도/미인증 → 남은 건도 실패하므로 호출 안 함
+            imageUrl = objectStorage.upload(fileName, ImageService.MIME_TYPE,
+                    out -> imageService.generateToonImage(toon.getSummary(), decoder.tee(out))).join();
+            decoder.close();
+            image = decoder.image();
+        } catch (IOException | RuntimeException ex) {
+            String msg = ex.getMessage() == null ? "" : ex.getMessage();
+
+            if (msg.contains("BILLING_HARD_LIMIT_REACHED")) {
+                if (cancelled.compareAndSet(false, true)) {
+                    log.error("[ToonGeneratorService] 하드 리밋 도달. 이미지 생성 중단: {}", msg);
                 }
-                if (msg.contains("ORG_NOT_VERIFIED")) {                   // [ADDED]
-                    System.err.println("[ToonGeneratorService] 조직 미인증. 이미지 생성 중단: " + msg);
-                    break;                                                // [ADDED]
+                return null;
+            }
+            if (msg.contains("ORG_NOT_VERIFIED")) {                   // [ADDED]
+                if (cancelled.compareAndSet(false, true)) {
+                    log.error("[ToonGeneratorService] 조직 미인증. 이미지 생성 중단: {}", msg);
                 }
+                return null;
+            }
+
+            // 그 외는 해당 건만 스킵
+            log.warn("[ToonGeneratorService] 이미지 생성 실패(스킵) newsId={}: {}", toon.getNewsId(), msg);
+            return null;
+        } finally {
+            imagePermits.release();
+        }
 
-                // 그 외는 해당 건만 스킵
-                System.err.println("[ToonGeneratorService] 이미지 생성 실패(스킵): " + msg);
+        // 크기별 JPEG 사본 (실패해도 원본 URL은 반영)
+        ToonRenditionService.Renditions renditions = new ToonRenditionService.Renditions(null, null, null);
+        if (image != null) {
+            renditionPermits.acquire();
+            try {
+                renditions = toonRenditionService.render(toon.getNewsId(), image);
+            } finally {
+                renditionPermits.release();
             }
         }
+
+        toonsRepository.updateToonImages(toon.getToonId(), imageUrl,
+                renditions.small(), renditions.medium(), renditions.large());
+        return null;
+    }
+
+    private <T> T await(Future<T> future, Long newsId) {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            log.warn("[ToonGeneratorService] 생성 실패(스킵) newsId={}: {}", newsId, e.getCause().getMessage());
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            return null;
+        }
     }
 }
@@ -0,0 +1,111 @@
+package com.ssafy.myissue.toons.service;
+
+import com.ssafy.myissue.toons.infrastructure.ToonsRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * 네컷 좋아요/싫어요 수 집계
+ *  - 반응이 바뀔 때마다 Redis HASH(field = "{toonId}:like|dislike")에 증감분만 누적
+ *  - 주기적으로 증감분 키를 통째로 떼어내(RENAME) toons.like_count / dislike_count에 더함
+ *  - 반영한 toon은 바로 필드를 지워서 도중에 실패해도 같은 증감분을 두 번 더하지 않음
+ *  - 락 값은 flush마다 랜덤 토큰, 해제는 토큰이 같을 때만 (TTL을 넘긴 flush가 다른 인스턴스의 락을 지우지 않게)
+ *    toon마다 반영 전에 락을 아직 갖고 있는지 확인 → TTL을 넘기면 남은 필드는 새 락 주인에게 넘기고 중단
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ToonReactionCounterService {
+
+    private static final String DELTA_KEY = "toons:reaction:delta";
+    private static final String FLUSHING_KEY = "toons:reaction:delta:flushing";
+    private static final String FLUSH_LOCK_KEY = "toons:reaction:flush-lock";
+    private static final Duration FLUSH_LOCK_TTL = Duration.ofSeconds(50); // 스케줄 주기보다 짧게
+
+    // 내 토큰일 때만 삭제
+    private static final RedisScript<Long> RELEASE_LOCK_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then " +
+            "  return redis.call('DEL', KEYS[1]) " +
+            "end " +
+            "return 0",
+            Long.class);
+
+    private final ToonsRepository toonsRepository;
+    private final StringRedisTemplate stringRedisTemplate;
+
+    /** 반응 변화 기록 (null = 반응 없음, true = 좋아요, false = 싫어요) */
+    public void record(Long toonId, Boolean previous, Boolean current) {
+        if (Objects.equals(previous, current)) return;
+        try {
+            if (previous != null) {
+                stringRedisTemplate.opsForHash().increment(DELTA_KEY, field(toonId, previous), -1);
+            }
+            if (current != null) {
+                stringRedisTemplate.opsForHash().increment(DELTA_KEY, field(toonId, current), 1);
+            }
+        } catch (Exception e) {
+            // 집계는 근사치 (반응 자체는 DB에 저장됨)
+            log.warn("[ToonReactionCounter] 증감분 기록 실패 toonId={}: {}", toonId, e.getMessage());
+        }
+    }
+
+    /** 쌓인 증감분을 DB에 반영 (여러 인스턴스 중 1곳만) */
+    public void flush() {
+        String token = UUID.randomUUID().toString();
+        Boolean locked = stringRedisTemplate.opsForValue().setIfAbsent(FLUSH_LOCK_KEY, token, FLUSH_LOCK_TTL);
+        if (!Boolean.TRUE.equals(locked)) return;
+        try {
+            // 지난번에 반영하다 만 키가 있으면 그것부터
+            if (!Boolean.TRUE.equals(stringRedisTemplate.hasKey(FLUSHING_KEY))) {
+                if (!Boolean.TRUE.equals(stringRedisTemplate.hasKey(DELTA_KEY))) return;
+                stringRedisTemplate.rename(DELTA_KEY, FLUSHING_KEY);
+            }
+
+            Map<Long, int[]> deltas = new HashMap<>(); // toonId → [likes, dislikes]
+            for (Map.Entry<Object, Object> e : stringRedisTemplate.opsForHash().entries(FLUSHING_KEY).entrySet()) {
+                String field = (String) e.getKey();
+                int sep = field.indexOf(':');
+                int[] d = deltas.computeIfAbsent(Long.parseLong(field.substring(0, sep)), id -> new int[2]);
+                d[field.endsWith(":like") ? 0 : 1] += Integer.parseInt((String) e.getValue());
+            }
+
+            int applied = 0;
+            for (Map.Entry<Long, int[]> e : deltas.entrySet()) {
+                // 락이 만료돼 다른 인스턴스가 가져갔으면 중단 (남은 필드는 그쪽이 반영)
+                if (!token.equals(stringRedisTemplate.opsForValue().get(FLUSH_LOCK_KEY))) {
+                    log.warn("[ToonReactionCounter] flush 락을 잃어 중단 (반영 {}건)", applied);
+                    return;
+                }
+                Long toonId = e.getKey();
+                int[] d = e.getValue();
+                if (d[0] != 0 || d[1] != 0) {
+                    toonsRepository.addReactionCounts(toonId, d[0], d[1]);
+                    applied++;
+                }
+                stringRedisTemplate.opsForHash().delete(FLUSHING_KEY, field(toonId, true), field(toonId, false));
+            }
+            stringRedisTemplate.delete(FLUSHING_KEY);
+            if (applied > 0) log.info("[ToonReactionCounter] 반응 수 반영 {}건", applied);
+        } finally {
+            Long released = stringRedisTemplate.execute(RELEASE_LOCK_SCRIPT, List.of(FLUSH_LOCK_KEY), token);
+            if (!Long.valueOf(1).equals(released)) {
+                log.warn("[ToonReactionCounter] flush가 락 TTL({}초)을 넘김 (락 만료 후 해제 시도)", FLUSH_LOCK_TTL.toSeconds());
+            }
+        }
+    }
+
+    private String field(Long toonId, boolean liked) {
+        return toonId + (liked ? ":like" : ":dislike");
+    }
+}
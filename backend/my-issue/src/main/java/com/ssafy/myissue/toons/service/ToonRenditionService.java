@@ -0,0 +1,219 @@
+package com.ssafy.myissue.toons.service;
+
+import com.ssafy.myissue.common.storage.ObjectStorage;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+import javax.imageio.stream.MemoryCacheImageInputStream;
+import javax.imageio.stream.MemoryCacheImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PipedInputStream;
+import java.io.PipedOutputStream;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * 네컷 이미지 크기별 JPEG 사본(256 / 512 / 1024) 생성
+ *  - 원본 PNG를 업로드하는 스트림에 디코더를 끼워서 같은 바이트로 디코딩 (원본을 다시 받거나 모아두지 않음)
+ *  - 크기별 축소 → JPEG 인코딩 → 업로드를 병렬 실행, 실패한 크기는 null (원본 URL은 그대로 사용 가능)
+ *  - 키: toons/{newsId}_{size}.jpg
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ToonRenditionService {
+
+    public static final int SMALL = 256;   // 피드 썸네일
+    public static final int MEDIUM = 512;  // 스와이프 카드
+    public static final int LARGE = 1024;  // 상세
+
+    // 작은 사본일수록 압축 흔적이 덜 보여서 품질을 더 낮춰도 됨
+    private static final float SMALL_QUALITY = 0.70f;
+    private static final float MEDIUM_QUALITY = 0.78f;
+    private static final float LARGE_QUALITY = 0.85f;
+
+    private static final int PIPE_BUFFER = 64 * 1024;
+
+    private final ObjectStorage objectStorage;
+
+    public record Renditions(String small, String medium, String large) {}
+
+    /** 원본 스트림을 받아 디코딩하는 쪽 (tee로 업로드 스트림에 끼워서 사용) */
+    public ImageDecoder decoder() throws IOException {
+        return new ImageDecoder();
+    }
+
+    /** 크기별 사본 생성 + 업로드 (병렬) */
+    public Renditions render(Long newsId, BufferedImage source) {
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<String> small = executor.submit(() -> renderOne(newsId, source, SMALL, SMALL_QUALITY));
+            Future<String> medium = executor.submit(() -> renderOne(newsId, source, MEDIUM, MEDIUM_QUALITY));
+            Future<String> large = executor.submit(() -> renderOne(newsId, source, LARGE, LARGE_QUALITY));
+            return new Renditions(await(small, newsId, SMALL), await(medium, newsId, MEDIUM), await(large, newsId, LARGE));
+        }
+    }
+
+    private String renderOne(Long newsId, BufferedImage source, int size, float quality) {
+        BufferedImage scaled = scale(source, size);
+        return objectStorage.upload("toons/" + newsId + "_" + size + ".jpg", "image/jpeg",
+                out -> writeJpeg(scaled, quality, out)).join();
+    }
+
+    // 절반씩 여러 번 줄여서 한 번에 크게 줄일 때 생기는 계단 현상 방지, JPEG이라 알파는 흰 배경으로
+    private BufferedImage scale(BufferedImage source, int size) {
+        int targetW = Math.min(size, source.getWidth());
+        int targetH = Math.max(1, source.getHeight() * targetW / source.getWidth());
+
+        BufferedImage current = source;
+        int w = source.getWidth();
+        int h = source.getHeight();
+        do {
+            w = Math.max(targetW, w / 2);
+            h = Math.max(targetH, h / 2);
+            BufferedImage next = new BufferedImage(w, h, BufferedImage.TYPE_INT_RGB);
+            Graphics2D g = next.createGraphics();
+            try {
+                g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BICUBIC);
+                g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+                g.setColor(Color.WHITE);
+                g.fillRect(0, 0, w, h);
+                g.drawImage(current, 0, 0, w, h, null);
+            } finally {
+                g.dispose();
+            }
+            current = next;
+        } while (w > targetW || h > targetH);
+        return current;
+    }
+
+    private void writeJpeg(BufferedImage image, float quality, OutputStream out) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        try (ImageOutputStream ios = new MemoryCacheImageOutputStream(out)) {
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(quality);
+            writer.setOutput(ios);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+    }
+
+    private String await(Future<String> future, Long newsId, int size) {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            log.warn("[ToonRendition] 사본 생성 실패 newsId={}, size={}: {}", newsId, size, e.getCause().getMessage());
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            return null;
+        }
+    }
+
+    /**
+     * 파이프로 받은 바이트를 가상 스레드에서 디코딩
+     *  - 디코딩이 실패하거나 먼저 끝나도 남은 바이트는 계속 소진 → 업로드 쪽이 막히거나 실패하지 않음
+     *  - close()로 입력 끝을 알린 뒤 image()로 결과 (디코딩 불가면 null)
+     */
+    public static final class ImageDecoder extends OutputStream {
+
+        private final PipedOutputStream pipe;
+        private final CompletableFuture<BufferedImage> image = new CompletableFuture<>();
+        private boolean open = true;
+
+        private ImageDecoder() throws IOException {
+            PipedInputStream in = new PipedInputStream(PIPE_BUFFER);
+            this.pipe = new PipedOutputStream(in);
+            Thread.ofVirtual().name("toon-decode").start(() -> {
+                try {
+                    image.complete(ImageIO.read(new MemoryCacheImageInputStream(in)));
+                } catch (Throwable e) {
+                    image.completeExceptionally(e);
+                } finally {
+                    try (in) {
+                        in.transferTo(OutputStream.nullOutputStream());
+                    } catch (IOException ignored) {
+                        // 쓰는 쪽이 이미 닫힘
+                    }
+                }
+            });
+        }
+
+        /** primary(업로드)에 쓰면서 디코더에도 복사. 디코더 쪽 오류는 업로드에 영향 없음 */
+        public OutputStream tee(OutputStream primary) {
+            return new OutputStream() {
+                @Override
+                public void write(int b) throws IOException {
+                    primary.write(b);
+                    ImageDecoder.this.write(b);
+                }
+
+                @Override
+                public void write(byte[] b, int off, int len) throws IOException {
+                    primary.write(b, off, len);
+                    ImageDecoder.this.write(b, off, len);
+                }
+
+                @Override
+                public void flush() throws IOException {
+                    primary.flush();
+                }
+            };
+        }
+
+        @Override
+        public void write(int b) {
+            if (!open) return;
+            try {
+                pipe.write(b);
+            } catch (IOException e) {
+                open = false;
+            }
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            if (!open) return;
+            try {
+                pipe.write(b, off, len);
+            } catch (IOException e) {
+                open = false;
+            }
+        }
+
+        @Override
+        public void close() {
+            open = false;
+            try {
+                pipe.close();
+            } catch (IOException ignored) {
+                // 읽는 쪽이 이미 끝남
+            }
+        }
+
+        public BufferedImage image() throws InterruptedException {
+            try {
+                return image.get();
+            } catch (ExecutionException e) {
+                log.warn("[ToonRendition] 원본 디코딩 실패: {}", e.getCause().getMessage());
+                return null;
+            }
+        }
+    }
+}
@@ -1,20 +1,24 @@
 package com.ssafy.myissue.toons.service;
 
+import com.ssafy.myissue.news.dto.CursorCodec;
+import com.ssafy.myissue.news.dto.CursorPage;
+import com.ssafy.myissue.news.dto.IdCursor;
 import com.ssafy.myissue.news.infrastructure.NewsRepository;
 import com.ssafy.myissue.toons.domain.ToonLike;
-import com.ssafy.myissue.toons.domain.Toons;
 import com.ssafy.myissue.toons.dto.ToonResponse;
 import com.ssafy.myissue.toons.infrastructure.ToonLikeRepository;
 import com.ssafy.myissue.toons.infrastructure.ToonsRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
-import java.time.LocalDate;
-import java.util.Comparator;
 
 import com.ssafy.myissue.common.exception.CustomException;
 import com.ssafy.myissue.common.exception.ErrorCode;
@@ -26,76 +30,101 @@ public class ToonsService {
 
     private final ToonsRepository toonsRepository;
     private final ToonLikeRepository toonLikeRepository;
+    private final ToonFeedCacheService toonFeedCacheService;
+    private final ToonReactionCounterService toonReactionCounterService;
 
-    // 네컷뉴스 전체 조회
+    // 네컷뉴스 전체 조회 (최근 3일, 아직 반응 안 한 것만) — 스냅샷 + 반응 집합, 안 되면 SQL
+    @Transactional(readOnly = true)
     public List<ToonResponse> getToons(Long userId) {
-        LocalDate cutoff = LocalDate.now().minusDays(3);
-
-        return toonsRepository.findAll()
-                .stream()
-                .filter(toon -> !toon.getDate().isBefore(cutoff))
-                .filter(toon -> toonLikeRepository.findByUserIdAndToon(userId, toon).isEmpty())
-                .map(ToonResponse::from)
-                .collect(Collectors.toList());
+        return toonFeedCacheService.findFeed(userId)
+                .orElseGet(() -> toonsRepository.findFeed(ToonFeedCacheService.cutoff(), userId)
+                        .stream()
+                        .map(ToonResponse::from)
+                        .collect(Collectors.toList()));
     }
 
     // 좋아요
     public void likeToon(Long userId, Long toonId) {
-        Toons toon = toonsRepository.findById(toonId)
-                .orElseThrow(() -> new CustomException(ErrorCode.TOON_NOT_FOUND));
-
-        Optional<ToonLike> likeOpt = toonLikeRepository.findByUserIdAndToon(userId, toon);
-
-        if (likeOpt.isPresent()) {
-            ToonLike like = likeOpt.get();
-            like.setLiked(true); // 좋아요로 변경
-        } else {
-            ToonLike like = ToonLike.builder()
-                    .userId(userId)
-                    .toon(toon)
-                    .liked(true)
-                    .build();
-            toonLikeRepository.save(like);
-        }
+        react(userId, toonId, true);
     }
 
     // 싫어요
     public void hateToon(Long userId, Long toonId) {
-        Toons toon = toonsRepository.findById(toonId)
-                .orElseThrow(() -> new CustomException(ErrorCode.TOON_NOT_FOUND));;
-
-        Optional<ToonLike> likeOpt = toonLikeRepository.findByUserIdAndToon(userId, toon);
-
-        if (likeOpt.isPresent()) {
-            ToonLike like = likeOpt.get();
-            like.setLiked(false); // 싫어요로 변경
-        } else {
-            ToonLike like = ToonLike.builder()
-                    .userId(userId)
-                    .toon(toon)
-                    .liked(false)
-                    .build();
-            toonLikeRepository.save(like);
-        }
+        react(userId, toonId, false);
     }
 
     // 좋아요/싫어요 취소
     public void cancelLike(Long userId, Long toonId) {
-        Toons toon = toonsRepository.findById(toonId)
-                .orElseThrow(() -> new CustomException(ErrorCode.TOON_NOT_FOUND));
+        Boolean previous = toonLikeRepository.deleteReaction(userId, toonId) // DB에서 삭제 처리
+                .orElseThrow(() -> toonsRepository.existsById(toonId)
+                        ? new CustomException(ErrorCode.TOON_LIKE_NOT_FOUND)
+                        : new CustomException(ErrorCode.TOON_NOT_FOUND));
+
+        afterCommit(() -> {
+            toonReactionCounterService.record(toonId, previous, null);
+            toonFeedCacheService.unmarkReacted(userId, toonId);
+        });
+    }
 
-        ToonLike like = toonLikeRepository.findByUserIdAndToon(userId, toon)
-                .orElseThrow(() -> new CustomException(ErrorCode.TOON_LIKE_NOT_FOUND));
+    // 반응 upsert 1문장 (연타해도 유니크 충돌 없음) → 바뀐 경우만 집계
+    private void react(Long userId, Long toonId, boolean liked) {
+        Optional<Boolean> inserted;
+        try {
+            inserted = toonLikeRepository.upsert(userId, toonId, liked);
+        } catch (DataIntegrityViolationException e) {
+            throw new CustomException(ErrorCode.TOON_NOT_FOUND); // toon_id FK 위반
+        }
 
-        toonLikeRepository.delete(like); // DB에서 삭제 처리
+        Boolean previous = (inserted.isPresent() && !inserted.get()) ? !liked : null; // 새로 넣음 = 이전 반응 없음
+        afterCommit(() -> {
+            if (inserted.isPresent()) toonReactionCounterService.record(toonId, previous, liked);
+            toonFeedCacheService.markReacted(userId, toonId);
+        });
+    }
+
+    // Redis 반영(증감분/반응 집합)은 커밋된 뒤에만 → 롤백되면 DB와 어긋난 증감분이 flush로 굳지 않게
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
     }
 
-    // 내가 좋아요한 네컷뉴스 조회
-    public List<ToonResponse> getUserLikedToons(Long userId) {
-        return toonLikeRepository.findByUserIdAndLikedTrue(userId)
-                .stream()
-                .sorted(Comparator.comparing(ToonLike::getToonLikeId).reversed())
+    // 내가 좋아요한 네컷뉴스 조회 (최근 좋아요 순 커서 페이지)
+    @Transactional(readOnly = true)
+    public CursorPage<ToonResponse> getUserLikedToons(Long userId, String cursor, int size) {
+        Long lastId = decodeCursor(cursor);
+        PageRequest limit = PageRequest.of(0, size + 1); // 1개 더 읽어서 다음 페이지 판정
+
+        List<ToonLike> rows = (lastId == null)
+                ? toonLikeRepository.findLikedFirstPage(userId, limit)
+                : toonLikeRepository.findLikedAfter(userId, lastId, limit);
+
+        boolean hasNext = rows.size() > size;
+        if (hasNext) rows = rows.subList(0, size);
+
+        List<ToonResponse> items = rows.stream()
                 .map(like -> ToonResponse.from(like.getToon()))
-                .collect(Collectors.toList());
+                .toList();
+
+        String nextCursor = hasNext
+                ? CursorCodec.encode(new IdCursor(rows.get(rows.size() - 1).getToonLikeId()))
+                : null;
+        return new CursorPage<>(items, nextCursor, hasNext);
+    }
+
+    private Long decodeCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) return null;
+        try {
+            return CursorCodec.decode(cursor, IdCursor.class).lastId();
+        } catch (IllegalArgumentException ex) {
+            throw new CustomException(ErrorCode.INVALID_CURSOR);
+        }
     }
 }
@@ -0,0 +1,197 @@
+package com.ssafy.myissue.common.llm;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * LlmClient 로컬 스텁 서버 테스트 (실제 API 호출 없음)
+ *  - 실행: ./gradlew llmStubTest
+ */
+@Tag("llm-stub")
+class LlmClientStubTest {
+
+    private HttpServer server;
+    private final Deque<Reply> replies = new ArrayDeque<>();
+    private final AtomicInteger calls = new AtomicInteger();
+    private volatile long delayMillis;
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private LlmClient client;
+
+    private record Reply(int status, String contentType, String body) {}
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/chat", this::handle);
+        server.createContext("/images", this::handle);
+        server.start();
+        String base = "http://127.0.0.1:" + server.getAddress().getPort();
+        client = new LlmClient(registry, base + "/chat", base + "/images", "test-key", "test-key", 3, Duration.ofMillis(5), Duration.ZERO);
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    void chat_retriesOn429ThenSucceeds() {
+        replies.add(new Reply(429, "application/json", "{\"error\":{\"message\":\"rate limited\"}}"));
+        replies.add(new Reply(200, "application/json",
+                "{\"choices\":[{\"message\":{\"content\":\"요약\"}}],\"usage\":{\"prompt_tokens\":10,\"completion_tokens\":4}}"));
+
+        assertEquals("요약", client.chat("gpt-5-nano", "Answer in Korean", "기사"));
+        assertEquals(2, calls.get());
+        assertEquals(1.0, registry.counter("llm.retry", "model", "gpt-5-nano").count());
+        assertEquals(10.0, registry.counter("llm.tokens", "model", "gpt-5-nano", "type", "prompt").count());
+        assertEquals(1, registry.timer("llm.call", "model", "gpt-5-nano", "op", "chat", "outcome", "success").count());
+    }
+
+    @Test
+    void chat_doesNotRetryClientError() {
+        replies.add(new Reply(400, "application/json", "{\"error\":{\"code\":\"invalid_request\",\"message\":\"bad\"}}"));
+
+        LlmException e = assertThrows(LlmException.class, () -> client.chat("gpt-5-nano", "d", "u"));
+        assertEquals(400, e.getStatus());
+        assertEquals("invalid_request", e.getErrorCode());
+        assertFalse(e.isRetryable());
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    void chat_coalescesConcurrentIdenticalPrompts() throws Exception {
+        delayMillis = 300;
+        replies.add(new Reply(200, "application/json", "{\"choices\":[{\"message\":{\"content\":\"같은 답\"}}]}"));
+
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<String>> futures = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                futures.add(pool.submit(() -> client.chat("gpt-5-nano", "d", "같은 질문")));
+            }
+            for (Future<String> f : futures) assertEquals("같은 답", f.get(10, TimeUnit.SECONDS));
+        } finally {
+            pool.shutdownNow();
+        }
+        assertEquals(1, calls.get());
+        assertEquals(3.0, registry.counter("llm.coalesced", "model", "gpt-5-nano").count());
+    }
+
+    @Test
+    void streamChat_forwardsDeltasInOrder() throws Exception {
+        replies.add(new Reply(503, "application/json", "{}"));
+        replies.add(new Reply(200, "text/event-stream",
+                "data: {\"choices\":[{\"delta\":{\"content\":\"안녕\"}}]}\n\n"
+                        + "data: {\"choices\":[{\"delta\":{\"content\":\"하세요\"}}]}\n\n"
+                        + "data: {\"choices\":[],\"usage\":{\"prompt_tokens\":3,\"completion_tokens\":2}}\n\n"
+                        + "data: [DONE]\n\n"));
+
+        StringBuilder deltas = new StringBuilder();
+        String answer = client.streamChat("gpt-5-nano", "d", "u", deltas::append).get(10, TimeUnit.SECONDS);
+
+        assertEquals("안녕하세요", answer);
+        assertEquals("안녕하세요", deltas.toString());
+        assertEquals(2, calls.get());
+        assertEquals(2.0, registry.counter("llm.tokens", "model", "gpt-5-nano", "type", "completion").count());
+    }
+
+    @Test
+    void streamChat_returnsImmediatelyWhileWaitingForSlot() throws Exception {
+        // 기본 제한 모델(동시 8개)의 자리를 다 채운 뒤 9번째 호출 (스텁 서버는 요청을 하나씩 처리)
+        delayMillis = 200;
+        String sse = "data: {\"choices\":[{\"delta\":{\"content\":\"ok\"}}]}\n\ndata: [DONE]\n\n";
+        for (int i = 0; i < 9; i++) replies.add(new Reply(200, "text/event-stream", sse));
+
+        List<CompletableFuture<String>> streams = new ArrayList<>();
+        for (int i = 0; i < 8; i++) streams.add(client.streamChat("stub-model", "d", "u" + i, d -> {}));
+
+        long start = System.nanoTime();
+        CompletableFuture<String> queued = client.streamChat("stub-model", "d", "queued", d -> {});
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        assertTrue(elapsedMillis < 100, "호출 스레드가 " + elapsedMillis + "ms 동안 막힘");
+        assertFalse(queued.isDone());
+        for (CompletableFuture<String> f : streams) assertEquals("ok", f.get(10, TimeUnit.SECONDS));
+        assertEquals("ok", queued.get(10, TimeUnit.SECONDS));
+        assertEquals(9, calls.get());
+    }
+
+    @Test
+    void retriesConsumeRateLimitTokens() throws Exception {
+        // gpt-image-1: 분당 10개. 실패 3건 × 3회 시도 = 9개, 성공 1건 = 10개 → 다음 요청은 토큰이 찰 때까지(약 6초) 대기
+        for (int i = 0; i < 3; i++) {
+            assertThrows(LlmException.class, () -> client.chat("gpt-image-1", "d", "u" + System.nanoTime()));
+        }
+        replies.add(new Reply(200, "application/json", "{\"choices\":[{\"message\":{\"content\":\"a\"}}]}"));
+        assertEquals("a", client.chat("gpt-image-1", "d", "ok"));
+        assertEquals(10, calls.get());
+
+        replies.add(new Reply(200, "text/event-stream", "data: {\"choices\":[{\"delta\":{\"content\":\"b\"}}]}\n\n"));
+        CompletableFuture<String> next = client.streamChat("gpt-image-1", "d", "next", d -> {});
+        Thread.sleep(1000);
+        assertEquals(10, calls.get());
+        assertFalse(next.isDone());
+        assertEquals("b", next.get(15, TimeUnit.SECONDS));
+        assertEquals(11, calls.get());
+    }
+
+    @Test
+    void generateImage_recordsImageUsageNames() {
+        replies.add(new Reply(200, "application/json",
+                "{\"data\":[{\"b64_json\":\"aGVsbG8=\"}],\"usage\":{\"input_tokens\":12,\"output_tokens\":34}}"));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        client.generateImage(Map.of("model", "gpt-image-1", "prompt", "p"), out);
+
+        assertEquals("hello", out.toString(StandardCharsets.UTF_8));
+        assertEquals(12.0, registry.counter("llm.tokens", "model", "gpt-image-1", "type", "prompt").count());
+        assertEquals(34.0, registry.counter("llm.tokens", "model", "gpt-image-1", "type", "completion").count());
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        exchange.getRequestBody().readAllBytes();
+        calls.incrementAndGet();
+        if (delayMillis > 0) {
+            try {
+                Thread.sleep(delayMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        Reply reply = replies.poll();
+        if (reply == null) reply = new Reply(500, "application/json", "{}");
+
+        byte[] body = reply.body().getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", reply.contentType());
+        exchange.sendResponseHeaders(reply.status(), body.length);
+        exchange.getResponseBody().write(body);
+        exchange.close();
+    }
+}
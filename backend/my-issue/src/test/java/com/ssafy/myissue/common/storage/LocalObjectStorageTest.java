@@ -0,0 +1,103 @@
+package com.ssafy.myissue.common.storage;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.CompletionException;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * LocalObjectStorage 단위 테스트 (임시 디렉터리에 저장)
+ *  - 실행: ./gradlew unitTest
+ */
+@Tag("unit")
+class LocalObjectStorageTest {
+
+    @TempDir
+    Path dir;
+
+    private Path root;
+    private LocalObjectStorage storage;
+
+    @BeforeEach
+    void setUp() {
+        root = dir.resolve("storage");
+        storage = new LocalObjectStorage(root.toString(), "http://localhost:8080/storage/");
+    }
+
+    @Test
+    void upload_writer_roundTrip() throws IOException {
+        byte[] data = "podcast-bytes".getBytes(StandardCharsets.UTF_8);
+
+        String url = storage.upload("podcast/2025-01-01.wav", "audio/wav", out -> out.write(data)).join();
+
+        assertEquals("http://localhost:8080/storage/podcast/2025-01-01.wav", url);
+        assertArrayEquals(data, Files.readAllBytes(root.resolve("podcast/2025-01-01.wav")));
+        assertEquals(1, fileCount()); // 임시 파일이 남지 않음
+    }
+
+    @Test
+    void upload_file_roundTripAndOverwrite() throws IOException {
+        Path source = Files.write(dir.resolve("src.png"), new byte[]{1, 2, 3});
+        storage.upload("toon/1.png", "image/png", out -> out.write(new byte[]{9})).join();
+
+        String url = storage.upload("toon/1.png", "image/png", source).join();
+
+        assertEquals(storage.url("toon/1.png"), url);
+        assertArrayEquals(new byte[]{1, 2, 3}, Files.readAllBytes(root.resolve("toon/1.png")));
+        assertEquals(1, fileCount());
+    }
+
+    @Test
+    void upload_rejectsKeysOutsideRoot() throws IOException {
+        for (String key : new String[]{"../escape.txt", "a/../../escape.txt", dir.resolve("abs.txt").toString(), "", "."}) {
+            assertThrows(IllegalArgumentException.class,
+                    () -> storage.upload(key, "text/plain", out -> out.write(1)), key);
+
+            Path source = Files.write(dir.resolve("src.txt"), new byte[]{1});
+            CompletionException e = assertThrows(CompletionException.class,
+                    () -> storage.upload(key, "text/plain", source).join(), key);
+            assertInstanceOf(IllegalArgumentException.class, e.getCause());
+        }
+        assertFalse(Files.exists(dir.resolve("escape.txt")));
+        assertFalse(Files.exists(dir.resolve("abs.txt")));
+    }
+
+    @Test
+    void upload_writerFailure_leavesNothingBehind() throws IOException {
+        assertThrows(UncheckedIOException.class, () -> storage.upload("podcast/broken.wav", "audio/wav", out -> {
+            out.write(new byte[1024]);
+            throw new IOException("tts failed");
+        }));
+
+        assertFalse(Files.exists(root.resolve("podcast/broken.wav")));
+        assertEquals(0, fileCount());
+    }
+
+    @Test
+    void upload_rejectsEmptyContent() throws IOException {
+        assertThrows(IllegalArgumentException.class, () -> storage.upload("empty.bin", "application/octet-stream", out -> {}));
+        assertEquals(0, fileCount());
+    }
+
+    private long fileCount() throws IOException {
+        if (!Files.exists(root)) return 0;
+        try (Stream<Path> files = Files.walk(root)) {
+            return files.filter(Files::isRegularFile).count();
+        }
+    }
+}
@@ -0,0 +1,284 @@
+package com.ssafy.myissue.common.storage;
+
+import com.amazonaws.AmazonServiceException;
+import com.amazonaws.services.s3.AbstractAmazonS3;
+import com.amazonaws.services.s3.model.AbortMultipartUploadRequest;
+import com.amazonaws.services.s3.model.CompleteMultipartUploadRequest;
+import com.amazonaws.services.s3.model.CompleteMultipartUploadResult;
+import com.amazonaws.services.s3.model.InitiateMultipartUploadRequest;
+import com.amazonaws.services.s3.model.InitiateMultipartUploadResult;
+import com.amazonaws.services.s3.model.PartETag;
+import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.model.PutObjectResult;
+import com.amazonaws.services.s3.model.UploadPartRequest;
+import com.amazonaws.services.s3.model.UploadPartResult;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.io.UncheckedIOException;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * S3ObjectStorage 단위 테스트 (메모리에 파트를 모으는 가짜 AmazonS3, 네트워크 없음)
+ *  - 멀티파트 파트 순서/크기, writer 실패 시 abort, 파트 재시도
+ *  - 실행: ./gradlew unitTest
+ */
+@Tag("unit")
+class S3ObjectStorageTest {
+
+    private static final int PART = S3ObjectStorage.PART_SIZE;
+
+    @TempDir
+    Path dir;
+
+    private FakeS3 s3;
+    private S3ObjectStorage storage;
+
+    @BeforeEach
+    void setUp() {
+        s3 = new FakeS3();
+        storage = new S3ObjectStorage(s3, "bucket");
+    }
+
+    @AfterEach
+    void tearDown() {
+        storage.shutdown();
+    }
+
+    @Test
+    void streamUpload_small_singlePut() {
+        byte[] data = random(1000);
+
+        String url = storage.upload("a.png", "image/png", out -> out.write(data)).join();
+
+        assertEquals("https://bucket.s3.test/a.png", url);
+        assertArrayEquals(data, s3.objects.get("a.png"));
+        assertEquals(0, s3.initiated.get());
+    }
+
+    @Test
+    void streamUpload_multipart_partsInOrder() {
+        byte[] data = random(2 * PART + 12345);
+
+        // 파트 경계와 어긋나는 크기로 나눠 씀 + 1바이트 write 섞음
+        String url = storage.upload("podcast.wav", "audio/wav", out -> {
+            int off = 0;
+            while (off < data.length) {
+                int n = Math.min(777_777, data.length - off);
+                out.write(data, off, n);
+                off += n;
+                if (off < data.length) out.write(data[off++]);
+            }
+        }).join();
+
+        assertEquals("https://bucket.s3.test/podcast.wav", url);
+        assertEquals(List.of(1, 2, 3), s3.completedPartNumbers);
+        assertEquals(PART, s3.parts.get(1).length);
+        assertEquals(PART, s3.parts.get(2).length);
+        assertEquals(12345, s3.parts.get(3).length);
+        assertArrayEquals(data, s3.objects.get("podcast.wav"));
+        assertEquals(1, s3.aborted.getCount()); // abort 없음
+    }
+
+    @Test
+    void fileUpload_multipart_partsInOrder() throws IOException {
+        byte[] data = random(PART * 3 + 1);
+        Path file = Files.write(dir.resolve("big.wav"), data);
+
+        storage.upload("big.wav", "audio/wav", file).join();
+
+        assertEquals(List.of(1, 2, 3, 4), s3.completedPartNumbers);
+        assertEquals(1, s3.parts.get(4).length);
+        assertArrayEquals(data, s3.objects.get("big.wav"));
+    }
+
+    @Test
+    void streamUpload_writerFailure_abortsMultipart() throws InterruptedException {
+        UncheckedIOException e = assertThrows(UncheckedIOException.class, () ->
+                storage.upload("broken.wav", "audio/wav", out -> {
+                    out.write(random(PART + 1)); // 첫 파트는 이미 전송 시작
+                    throw new IOException("tts failed");
+                }));
+
+        assertEquals("tts failed", e.getCause().getMessage());
+        assertTrue(s3.aborted.await(5, TimeUnit.SECONDS), "abort 호출 안 됨");
+        assertNull(s3.completedPartNumbers);
+        assertNull(s3.objects.get("broken.wav"));
+    }
+
+    @Test
+    void streamUpload_writerFailureBeforeFirstPart_noMultipart() {
+        assertThrows(IllegalStateException.class, () -> storage.upload("x.png", "image/png", out -> {
+            out.write(1);
+            throw new IllegalStateException("boom");
+        }));
+
+        assertEquals(0, s3.initiated.get());
+        assertEquals(1, s3.aborted.getCount());
+    }
+
+    @Test
+    void multipart_retriesTransientPartFailure() {
+        s3.failPart(2, 503, 1);
+        byte[] data = random(PART + 10);
+
+        storage.upload("retry.wav", "audio/wav", out -> out.write(data)).join();
+
+        assertEquals(2, s3.partAttempts.get(2).get());
+        assertEquals(List.of(1, 2), s3.completedPartNumbers);
+        assertArrayEquals(data, s3.objects.get("retry.wav")); // 재시도에서 스트림을 처음부터 다시 읽음
+    }
+
+    @Test
+    void multipart_permanentPartFailure_failsAndAborts() throws InterruptedException {
+        s3.failPart(1, 403, Integer.MAX_VALUE);
+
+        CompletionException e = assertThrows(CompletionException.class, () ->
+                storage.upload("denied.wav", "audio/wav", out -> out.write(random(PART + 10))).join());
+
+        assertInstanceOf(AmazonServiceException.class, rootCause(e));
+        assertEquals(1, s3.partAttempts.get(1).get()); // 403은 재시도하지 않음
+        assertTrue(s3.aborted.await(5, TimeUnit.SECONDS), "abort 호출 안 됨");
+        assertNull(s3.completedPartNumbers);
+    }
+
+    // ---------- helpers ----------
+
+    private static byte[] random(int size) {
+        byte[] b = new byte[size];
+        new Random(size).nextBytes(b);
+        return b;
+    }
+
+    private static Throwable rootCause(Throwable t) {
+        while (t.getCause() != null && t.getCause() != t) t = t.getCause();
+        return t;
+    }
+
+    /** 필요한 호출만 구현한 가짜 S3 (나머지는 AbstractAmazonS3가 UnsupportedOperationException) */
+    private static final class FakeS3 extends AbstractAmazonS3 {
+
+        final Map<String, byte[]> objects = new ConcurrentHashMap<>();
+        final Map<Integer, byte[]> parts = new ConcurrentHashMap<>();
+        final Map<Integer, AtomicInteger> partAttempts = new ConcurrentHashMap<>();
+        final AtomicInteger initiated = new AtomicInteger();
+        final CountDownLatch aborted = new CountDownLatch(1);
+        volatile List<Integer> completedPartNumbers;
+
+        private final Map<Integer, int[]> failures = new ConcurrentHashMap<>(); // partNumber → {status, 남은 횟수}
+
+        void failPart(int partNumber, int status, int times) {
+            failures.put(partNumber, new int[]{status, times});
+        }
+
+        @Override
+        public PutObjectResult putObject(PutObjectRequest request) {
+            try {
+                byte[] data = request.getFile() != null
+                        ? Files.readAllBytes(request.getFile().toPath())
+                        : request.getInputStream().readAllBytes();
+                objects.put(request.getKey(), data);
+                return new PutObjectResult();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        public InitiateMultipartUploadResult initiateMultipartUpload(InitiateMultipartUploadRequest request) {
+            InitiateMultipartUploadResult result = new InitiateMultipartUploadResult();
+            result.setUploadId("upload-" + initiated.incrementAndGet());
+            return result;
+        }
+
+        @Override
+        public UploadPartResult uploadPart(UploadPartRequest request) {
+            int partNumber = request.getPartNumber();
+            partAttempts.computeIfAbsent(partNumber, k -> new AtomicInteger()).incrementAndGet();
+
+            byte[] data = read(request);
+            int[] failure = failures.get(partNumber);
+            if (failure != null && failure[1]-- > 0) {
+                AmazonServiceException e = new AmazonServiceException("injected");
+                e.setStatusCode(failure[0]);
+                throw e;
+            }
+            parts.put(partNumber, data);
+
+            UploadPartResult result = new UploadPartResult();
+            result.setPartNumber(partNumber);
+            result.setETag("etag-" + partNumber);
+            return result;
+        }
+
+        @Override
+        public CompleteMultipartUploadResult completeMultipartUpload(CompleteMultipartUploadRequest request) {
+            List<Integer> numbers = request.getPartETags().stream().map(PartETag::getPartNumber).toList();
+            ByteArrayOutputStream object = new ByteArrayOutputStream();
+            for (int n : numbers) object.writeBytes(parts.get(n));
+            objects.put(request.getKey(), object.toByteArray());
+            completedPartNumbers = numbers;
+            return new CompleteMultipartUploadResult();
+        }
+
+        @Override
+        public void abortMultipartUpload(AbortMultipartUploadRequest request) {
+            aborted.countDown();
+        }
+
+        @Override
+        public URL getUrl(String bucketName, String key) {
+            try {
+                return new URL("https://" + bucketName + ".s3.test/" + key);
+            } catch (MalformedURLException e) {
+                throw new IllegalArgumentException(e);
+            }
+        }
+
+        private static byte[] read(UploadPartRequest request) {
+            int size = (int) request.getPartSize();
+            try {
+                if (request.getFile() != null) {
+                    try (RandomAccessFile file = new RandomAccessFile(request.getFile(), "r")) {
+                        byte[] data = new byte[size];
+                        file.seek(request.getFileOffset());
+                        file.readFully(data);
+                        return data;
+                    }
+                }
+                try (InputStream in = request.getInputStream()) {
+                    byte[] data = in.readNBytes(size);
+                    assertEquals(size, data.length, "파트 스트림이 partSize보다 짧음");
+                    return data;
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,264 @@
+package com.ssafy.myissue.common.util;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * AudioUtils 단위 테스트 (테스트 안에서 만든 PCM/float WAV로 헤더 파싱 + 합치기 검증)
+ *  - 실행: ./gradlew unitTest
+ */
+@Tag("unit")
+class AudioUtilsTest {
+
+    private static final int PCM = 1;
+    private static final int FLOAT = 3;
+    private static final int EXTENSIBLE = 0xFFFE;
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void readHeader_plainPcm() throws IOException {
+        Path wav = write("a.wav", new Wav(PCM, 1, 16_000, 16).data(frames(16_000, 2)));
+
+        AudioUtils.WavHeader h = AudioUtils.readHeader(wav);
+
+        assertEquals(PCM, h.formatTag());
+        assertEquals(44L, h.dataOffset());
+        assertEquals(32_000L, h.dataSize());
+        assertEquals(1.0, AudioUtils.getWavDurationinSeconds(wav), 1e-9);
+    }
+
+    @Test
+    void readHeader_skipsOddSizedChunkWithPadding() throws IOException {
+        // fmt 앞뒤에 홀수 크기 청크 (패딩 1바이트 포함)
+        Path wav = write("odd.wav", new Wav(PCM, 1, 8_000, 16)
+                .chunkBeforeFmt("junk", new byte[3])
+                .chunkBeforeData("LIST", new byte[5])
+                .data(frames(800, 2)));
+
+        AudioUtils.WavHeader h = AudioUtils.readHeader(wav);
+
+        assertEquals(12 + (8 + 4) + (8 + 16) + (8 + 6) + 8, h.dataOffset());
+        assertEquals(1_600L, h.dataSize());
+        assertEquals(0.1, h.durationSeconds(), 1e-9);
+    }
+
+    @Test
+    void readHeader_placeholderSizes_useFileLength() throws IOException {
+        for (long placeholder : new long[]{0L, 0xFFFFFFFFL}) {
+            Path wav = write("stream.wav", new Wav(PCM, 2, 24_000, 16).dataSizeField(placeholder).data(frames(2_400, 4)));
+
+            AudioUtils.WavHeader h = AudioUtils.readHeader(wav);
+
+            assertEquals(9_600L, h.dataSize());
+            assertEquals(0.1, h.durationSeconds(), 1e-9);
+        }
+    }
+
+    @Test
+    void readHeader_dropsTruncatedLastFrame() throws IOException {
+        // 스테레오 16비트(블록 4바이트)인데 3바이트가 남음 + 크기 필드는 파일보다 큼
+        byte[] data = Arrays.copyOf(frames(100, 4), 403);
+        Path wav = write("cut.wav", new Wav(PCM, 2, 8_000, 16).dataSizeField(1_000).data(data));
+
+        assertEquals(400L, AudioUtils.readHeader(wav).dataSize());
+    }
+
+    @Test
+    void readHeader_extensibleUsesSubFormat() throws IOException {
+        Path pcm = write("ext-pcm.wav", new Wav(EXTENSIBLE, 1, 24_000, 16).subFormat(PCM).data(frames(240, 2)));
+        Path flt = write("ext-float.wav", new Wav(EXTENSIBLE, 1, 24_000, 32).subFormat(FLOAT).data(frames(240, 4)));
+
+        assertEquals(PCM, AudioUtils.readHeader(pcm).formatTag());
+        assertEquals(FLOAT, AudioUtils.readHeader(flt).formatTag());
+        assertEquals(0.01, AudioUtils.readHeader(flt).durationSeconds(), 1e-9);
+    }
+
+    @Test
+    void readHeader_rejectsInvalidFiles() throws IOException {
+        Path notWav = Files.write(dir.resolve("x.wav"), "not a wav file at all".getBytes(StandardCharsets.US_ASCII));
+        Path noData = write("nodata.wav", new Wav(PCM, 1, 8_000, 16).omitData());
+        Path alaw = write("alaw.wav", new Wav(6, 1, 8_000, 8).data(frames(10, 1)));
+
+        assertThrows(IllegalArgumentException.class, () -> AudioUtils.readHeader(notWav));
+        assertThrows(IllegalArgumentException.class, () -> AudioUtils.readHeader(noData));
+        assertThrows(IllegalArgumentException.class, () -> AudioUtils.readHeader(alaw));
+    }
+
+    @Test
+    void merge_pcm_headerSizesAndDuration() throws IOException {
+        byte[] a = frames(24_000, 2);
+        byte[] b = Arrays.copyOf(frames(12_000, 2), 24_001); // 잘린 마지막 프레임은 빠짐
+        byte[] c = frames(6_000, 2);
+        List<Path> parts = List.of(
+                write("1.wav", new Wav(PCM, 1, 24_000, 16).data(a)),
+                write("2.wav", new Wav(PCM, 1, 24_000, 16).chunkBeforeFmt("junk", new byte[1]).dataSizeField(0).data(b)),
+                write("3.wav", new Wav(PCM, 1, 24_000, 16).chunkBeforeData("LIST", new byte[7]).data(c)));
+        Path target = dir.resolve("merged.wav");
+
+        AudioUtils.WavHeader merged = AudioUtils.mergeWavFiles(parts, target);
+
+        long dataSize = a.length + 24_000 + c.length;
+        byte[] file = Files.readAllBytes(target);
+        ByteBuffer buf = ByteBuffer.wrap(file).order(ByteOrder.LITTLE_ENDIAN);
+        assertEquals(44 + dataSize, file.length);
+        assertEquals("RIFF", fourCc(file, 0));
+        assertEquals(file.length - 8, buf.getInt(4));
+        assertEquals(16, buf.getInt(16));
+        assertEquals(PCM, buf.getShort(20));
+        assertEquals(48_000, buf.getInt(28)); // byteRate
+        assertEquals("data", fourCc(file, 36));
+        assertEquals(dataSize, buf.getInt(40));
+
+        assertEquals(1.75, merged.durationSeconds(), 1e-9);
+        assertEquals(merged, AudioUtils.readHeader(target));
+        assertArrayEquals(concat(a, Arrays.copyOf(b, 24_000), c), Arrays.copyOfRange(file, 44, file.length));
+    }
+
+    @Test
+    void merge_float_writesExtendedFmtAndFactChunk() throws IOException {
+        byte[] a = frames(4_800, 8); // 스테레오 32비트 float
+        List<Path> parts = List.of(
+                write("f1.wav", new Wav(FLOAT, 2, 48_000, 32).data(a)),
+                write("f2.wav", new Wav(EXTENSIBLE, 2, 48_000, 32).subFormat(FLOAT).data(a)));
+        Path target = dir.resolve("merged-float.wav");
+
+        AudioUtils.WavHeader merged = AudioUtils.mergeWavFiles(parts, target);
+
+        byte[] file = Files.readAllBytes(target);
+        ByteBuffer buf = ByteBuffer.wrap(file).order(ByteOrder.LITTLE_ENDIAN);
+        assertEquals(58 + 2L * a.length, file.length);
+        assertEquals(file.length - 8, buf.getInt(4));
+        assertEquals(18, buf.getInt(16));          // fmt 크기 (cbSize 포함)
+        assertEquals(FLOAT, buf.getShort(20));
+        assertEquals(0, buf.getShort(36));         // cbSize
+        assertEquals("fact", fourCc(file, 38));
+        assertEquals(4, buf.getInt(42));
+        assertEquals(9_600, buf.getInt(46));       // 채널당 샘플 수
+        assertEquals("data", fourCc(file, 50));
+        assertEquals(2 * a.length, buf.getInt(54));
+
+        assertEquals(58L, merged.dataOffset());
+        assertEquals(0.2, merged.durationSeconds(), 1e-9);
+        assertEquals(merged, AudioUtils.readHeader(target));
+    }
+
+    @Test
+    void merge_rejectsFormatMismatchBeforeWriting() throws IOException {
+        List<Path> parts = List.of(
+                write("m1.wav", new Wav(PCM, 1, 24_000, 16).data(frames(10, 2))),
+                write("m2.wav", new Wav(PCM, 1, 22_050, 16).data(frames(10, 2))));
+        Path target = dir.resolve("mismatch.wav");
+
+        assertThrows(IllegalArgumentException.class, () -> AudioUtils.mergeWavFiles(parts, target));
+        assertFalse(Files.exists(target));
+        assertThrows(IllegalArgumentException.class, () -> AudioUtils.mergeWavFiles(List.of(), target));
+    }
+
+    // ---------- fixtures ----------
+
+    private Path write(String name, Wav wav) throws IOException {
+        return Files.write(dir.resolve(name), wav.bytes());
+    }
+
+    // 프레임마다 다른 값 (이어 붙인 순서 검증용)
+    private static byte[] frames(int count, int blockAlign) {
+        byte[] b = new byte[count * blockAlign];
+        for (int i = 0; i < b.length; i++) b[i] = (byte) (i * 31 + blockAlign);
+        return b;
+    }
+
+    private static byte[] concat(byte[]... arrays) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (byte[] a : arrays) out.writeBytes(a);
+        return out.toByteArray();
+    }
+
+    private static String fourCc(byte[] file, int offset) {
+        return new String(file, offset, 4, StandardCharsets.US_ASCII);
+    }
+
+    /** 테스트용 WAV 생성기 (청크 배치 / 크기 필드를 마음대로) */
+    private static final class Wav {
+        private final int formatTag;
+        private final int channels;
+        private final int sampleRate;
+        private final int bitsPerSample;
+        private final ByteArrayOutputStream beforeFmt = new ByteArrayOutputStream();
+        private final ByteArrayOutputStream beforeData = new ByteArrayOutputStream();
+        private int subFormat = -1;
+        private Long dataSizeField;
+        private byte[] data = new byte[0];
+        private boolean omitData;
+
+        Wav(int formatTag, int channels, int sampleRate, int bitsPerSample) {
+            this.formatTag = formatTag;
+            this.channels = channels;
+            this.sampleRate = sampleRate;
+            this.bitsPerSample = bitsPerSample;
+        }
+
+        Wav chunkBeforeFmt(String id, byte[] body) { chunk(beforeFmt, id, body); return this; }
+        Wav chunkBeforeData(String id, byte[] body) { chunk(beforeData, id, body); return this; }
+        Wav subFormat(int tag) { this.subFormat = tag; return this; }
+        Wav dataSizeField(long size) { this.dataSizeField = size; return this; }
+        Wav data(byte[] data) { this.data = data; return this; }
+        Wav omitData() { this.omitData = true; return this; }
+
+        byte[] bytes() {
+            int blockAlign = channels * bitsPerSample / 8;
+            boolean extensible = subFormat >= 0;
+            ByteBuffer fmt = ByteBuffer.allocate(extensible ? 40 : 16).order(ByteOrder.LITTLE_ENDIAN);
+            fmt.putShort((short) formatTag).putShort((short) channels).putInt(sampleRate)
+                    .putInt(sampleRate * blockAlign).putShort((short) blockAlign).putShort((short) bitsPerSample);
+            if (extensible) {
+                fmt.putShort((short) 22).putShort((short) bitsPerSample).putInt(0).putShort((short) subFormat);
+            }
+
+            ByteArrayOutputStream body = new ByteArrayOutputStream();
+            body.writeBytes("WAVE".getBytes(StandardCharsets.US_ASCII));
+            body.writeBytes(beforeFmt.toByteArray());
+            chunk(body, "fmt ", fmt.array());
+            body.writeBytes(beforeData.toByteArray());
+            if (!omitData) {
+                body.writeBytes("data".getBytes(StandardCharsets.US_ASCII));
+                body.writeBytes(le32(dataSizeField != null ? dataSizeField : data.length));
+                body.writeBytes(data);
+            }
+
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            out.writeBytes("RIFF".getBytes(StandardCharsets.US_ASCII));
+            out.writeBytes(le32(body.size()));
+            out.writeBytes(body.toByteArray());
+            return out.toByteArray();
+        }
+
+        private static void chunk(ByteArrayOutputStream out, String id, byte[] body) {
+            out.writeBytes(id.getBytes(StandardCharsets.US_ASCII));
+            out.writeBytes(le32(body.length));
+            out.writeBytes(body);
+            if ((body.length & 1) == 1) out.write(0);
+        }
+
+        private static byte[] le32(long v) {
+            return ByteBuffer.allocate(4).order(ByteOrder.LITTLE_ENDIAN).putInt((int) v).array();
+        }
+    }
+}
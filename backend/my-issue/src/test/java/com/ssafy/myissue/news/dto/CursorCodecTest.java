@@ -0,0 +1,150 @@
+package com.ssafy.myissue.news.dto;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * CursorCodec 단위 테스트 (varint/zigzag 인코딩 + HMAC 서명 검증)
+ *  - 실행: ./gradlew unitTest
+ */
+@Tag("unit")
+class CursorCodecTest {
+
+    private static final byte[] SECRET = "cursor-codec-test-secret-0123456789".getBytes(StandardCharsets.UTF_8);
+    private static final int MAC_LENGTH = 6;
+    private static final int VERSION = 1;
+
+    @BeforeAll
+    static void configure() {
+        CursorCodec.configure(SECRET);
+    }
+
+    @Test
+    void roundTrip_everyTag() {
+        assertRoundTrip(new LatestCursor(1_735_660_800L, 123_456L), LatestCursor.class);
+        assertRoundTrip(new HotCursor(4999, 1_735_660_800L, 7L), HotCursor.class);
+        assertRoundTrip(new HotZOffsetCursor(40), HotZOffsetCursor.class);
+        assertRoundTrip(new IdCursor(Long.MAX_VALUE), IdCursor.class);
+        assertRoundTrip(new ScrapCursor(1L), ScrapCursor.class);
+        assertRoundTrip(new RecommendListOffsetCursor(0), RecommendListOffsetCursor.class);
+        assertRoundTrip(new SearchAfterCursor(12.5, 1_735_660_800L, 99L), SearchAfterCursor.class);
+        assertRoundTrip(new SearchAfterCursor(null, 1_735_660_800L, 99L), SearchAfterCursor.class);
+        assertRoundTrip(new SearchAfterCursor(null, null, null), SearchAfterCursor.class);
+    }
+
+    @Test
+    void roundTrip_negativeAndExtremeValues() {
+        assertRoundTrip(new LatestCursor(-1L, Long.MIN_VALUE), LatestCursor.class);
+        assertRoundTrip(new HotCursor(Integer.MIN_VALUE, 0L, Long.MAX_VALUE), HotCursor.class);
+    }
+
+    @Test
+    void rejects_tamperedMac() {
+        byte[] bytes = raw(CursorCodec.encode(new IdCursor(42L)));
+        bytes[bytes.length - 1] ^= 0x01;
+        assertRejected(encode(bytes), IdCursor.class, "bad signature");
+    }
+
+    @Test
+    void rejects_tamperedBody() {
+        byte[] bytes = raw(CursorCodec.encode(new IdCursor(42L)));
+        bytes[1] ^= 0x02; // 서명은 그대로, 값만 바꿈
+        assertRejected(encode(bytes), IdCursor.class, "bad signature");
+    }
+
+    @Test
+    void rejects_truncatedBody() {
+        // 서명은 올바르지만 LatestCursor 필드가 1개뿐
+        byte[] body = {(byte) ((VERSION << 4) | 1), 0x02};
+        assertRejected(encode(sign(body)), LatestCursor.class, "truncated");
+    }
+
+    @Test
+    void rejects_trailingBytes() {
+        byte[] body = {(byte) ((VERSION << 4) | 4), 0x02, 0x02};
+        assertRejected(encode(sign(body)), IdCursor.class, "type mismatch");
+    }
+
+    @Test
+    void rejects_badVersion() {
+        byte[] body = {(byte) ((2 << 4) | 4), 0x02};
+        assertRejected(encode(sign(body)), IdCursor.class, "bad version");
+    }
+
+    @Test
+    void rejects_unknownTag() {
+        byte[] body = {(byte) ((VERSION << 4) | 0x0F), 0x02};
+        assertRejected(encode(sign(body)), IdCursor.class, "unknown tag");
+    }
+
+    @Test
+    void rejects_typeMismatch() {
+        String cursor = CursorCodec.encode(new IdCursor(42L));
+        assertRejected(cursor, ScrapCursor.class, "type mismatch");
+    }
+
+    @Test
+    void rejects_unsignedLegacyJson() {
+        String legacy = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString("{\"lastId\":42}".getBytes(StandardCharsets.UTF_8));
+        assertThrows(IllegalArgumentException.class, () -> CursorCodec.decode(legacy, IdCursor.class));
+    }
+
+    @Test
+    void rejects_badLengthAndBase64() {
+        assertRejected(encode(new byte[]{0x14, 0x02}), IdCursor.class, "bad length");
+        assertRejected(encode(new byte[65]), IdCursor.class, "bad length");
+        assertThrows(IllegalArgumentException.class, () -> CursorCodec.decode("!!not-base64!!", IdCursor.class));
+    }
+
+    // ---------- helpers ----------
+
+    private static <T> void assertRoundTrip(T cursor, Class<T> type) {
+        String encoded = CursorCodec.encode(cursor);
+        assertTrue(encoded.matches("[A-Za-z0-9_-]+"), encoded);
+        assertEquals(cursor, CursorCodec.decode(encoded, type));
+    }
+
+    private static void assertRejected(String cursor, Class<?> type, String reason) {
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> CursorCodec.decode(cursor, type));
+        assertTrue(e.getMessage().contains(reason), e.getMessage());
+    }
+
+    // CursorCodec.configure와 같은 방식으로 키를 파생해서 임의 본문에 서명
+    private static byte[] sign(byte[] body) {
+        try {
+            Mac kdf = Mac.getInstance("HmacSHA256");
+            kdf.init(new SecretKeySpec(SECRET, "HmacSHA256"));
+            byte[] key = kdf.doFinal("myissue-cursor-v1".getBytes(StandardCharsets.UTF_8));
+
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec(key, "HmacSHA256"));
+            byte[] tag = mac.doFinal(body);
+
+            byte[] out = Arrays.copyOf(body, body.length + MAC_LENGTH);
+            System.arraycopy(tag, 0, out, body.length, MAC_LENGTH);
+            return out;
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static byte[] raw(String cursor) {
+        return Base64.getUrlDecoder().decode(cursor);
+    }
+
+    private static String encode(byte[] bytes) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+}
@@ -0,0 +1,291 @@
+package com.ssafy.myissue.news.infrastructure;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.myissue.common.config.QuerydslConfig;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * NewsCustomRepository 쿼리 플랜 회귀 테스트
+ *  - 로컬 Postgres에 엔티티 스키마(@Index 포함)를 create-drop으로 만들고 데이터 시딩 후
+ *    실제 NewsCustomRepository 메서드를 호출해 Hibernate가 보낸 SQL + 바인딩 값을 DataSource 프록시로 잡아서
+ *    그대로 EXPLAIN (ANALYZE, BUFFERS) → 플랜에 Seq Scan / Sort 노드가 없는지 검사
+ *  - 손으로 쓴 SQL이 아니라 구현이 만든 SQL이므로 QueryDSL 쿼리가 바뀌면 바로 여기서 잡힘
+ *  - 실행: QUERY_PLAN_DB_URL=jdbc:postgresql://localhost:5432/plan_test ./gradlew queryPlanTest
+ *    (QUERY_PLAN_DB_USERNAME / QUERY_PLAN_DB_PASSWORD, 기본 postgres/postgres) 변수 없으면 스킵
+ */
+@Tag("query-plan")
+@DataJpaTest
+@Import({QuerydslConfig.class, NewsQueryPlanTest.CaptureConfig.class})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@EnabledIfEnvironmentVariable(named = "QUERY_PLAN_DB_URL", matches = ".+")
+@TestPropertySource(properties = {
+        "spring.datasource.url=${QUERY_PLAN_DB_URL}",
+        "spring.datasource.username=${QUERY_PLAN_DB_USERNAME:postgres}",
+        "spring.datasource.password=${QUERY_PLAN_DB_PASSWORD:postgres}",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.show-sql=false"
+})
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class NewsQueryPlanTest {
+
+    private static final int NEWS_ROWS = 200_000;
+    private static final int SCRAP_ROWS = 50_000;
+    private static final int PAGE = 21; // size 20 + 1 (hasNext 판단)
+
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    @Autowired
+    private NewsRepository newsRepository;
+
+    @Autowired
+    private SqlCapture capture;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private LocalDateTime cursorAt;
+    private long cursorId;
+    private int hotViews;
+    private LocalDateTime hotAt;
+    private long hotId;
+
+    @BeforeAll
+    void seed() {
+        jdbc.execute("ALTER TABLE news ADD COLUMN IF NOT EXISTS embedding text"); // @Formula(embedding::text)용, 엔티티 컬럼 아님
+        jdbc.execute("""
+                INSERT INTO news (title, content, category, author, news_paper, created_at, views, thumbnail, scrap_count)
+                SELECT CASE WHEN g % 2 = 0 THEN '경제 동향 ' || g ELSE '사회 이슈 ' || g END,
+                       jsonb_build_array(jsonb_build_object('type', 'text', 'content', '본문 ' || g)),
+                       (ARRAY['정치', '경제', '사회', '생활/문화', 'IT/과학', '세계'])[1 + g % 6],
+                       '기자' || (g % 300),
+                       '언론사' || (g % 40),
+                       TIMESTAMP '2025-01-01' + (g || ' minutes')::interval,
+                       (g * 7919) % 5000,
+                       NULL,
+                       g % 13
+                FROM generate_series(1, """ + NEWS_ROWS + ") g");
+        jdbc.execute("INSERT INTO news_scrap (user_id, news_id, created_at)"
+                + " SELECT 1 + g % 500, 1 + (g * 7) % " + NEWS_ROWS + ", now()"
+                + " FROM generate_series(1, " + SCRAP_ROWS + ") g ON CONFLICT DO NOTHING");
+        jdbc.execute("ANALYZE news");
+        jdbc.execute("ANALYZE news_scrap");
+
+        Map<String, Object> cursor = jdbc.queryForMap(
+                "SELECT created_at, id FROM news ORDER BY created_at DESC, id DESC OFFSET 1000 LIMIT 1");
+        cursorAt = ((Timestamp) cursor.get("created_at")).toLocalDateTime();
+        cursorId = ((Number) cursor.get("id")).longValue();
+
+        Map<String, Object> hot = jdbc.queryForMap(
+                "SELECT views, created_at, id FROM news ORDER BY views DESC, created_at DESC, id DESC OFFSET 1000 LIMIT 1");
+        hotViews = ((Number) hot.get("views")).intValue();
+        hotAt = ((Timestamp) hot.get("created_at")).toLocalDateTime();
+        hotId = ((Number) hot.get("id")).longValue();
+    }
+
+    @BeforeEach
+    void clearCapture() {
+        capture.clear();
+    }
+
+    @Test
+    void findLatestPage_firstPage() {
+        newsRepository.findLatestPage(null, null, PAGE);
+        assertIndexOnly(capture.first());
+    }
+
+    @Test
+    void findLatestPage_withCursor() {
+        newsRepository.findLatestPage(cursorAt, cursorId, PAGE);
+        assertIndexOnly(capture.first());
+    }
+
+    @Test
+    void findHotPage_withCursor() {
+        newsRepository.findHotPage(hotViews, hotAt, hotId, PAGE);
+        assertIndexOnly(capture.first());
+    }
+
+    @Test
+    void findCategoryLatestPage_firstPage() {
+        newsRepository.findCategoryLatestPage("경제", null, null, PAGE);
+        assertIndexOnly(capture.first());
+    }
+
+    @Test
+    void findCategoryLatestPage_withCursor() {
+        newsRepository.findCategoryLatestPage("경제", cursorAt, cursorId, PAGE);
+        assertIndexOnly(capture.first());
+    }
+
+    @Test
+    void searchPage_keywordAndCategory() {
+        newsRepository.searchPage("경제", "경제", cursorAt, cursorId, PAGE);
+        assertIndexOnly(capture.first());
+    }
+
+    @Test
+    void searchPage_keywordOnly() {
+        newsRepository.searchPage("경제", null, null, null, PAGE);
+        assertIndexOnly(capture.first());
+    }
+
+    @Test
+    void findScrapByUserIdAndNewsId() {
+        newsRepository.findScrapByUserIdAndNewsId(7L, 49L);
+        assertIndexOnly(capture.first());
+    }
+
+    @Test
+    void findScrapsWithNewsByUser() {
+        newsRepository.findScrapsWithNewsByUser(7L, Long.MAX_VALUE, PAGE);
+        assertIndexOnly(capture.first());
+    }
+
+    // ---------- helpers ----------
+
+    /** 플랜 전체에서 Seq Scan(news, news_scrap) 또는 Sort 노드가 있으면 실패 */
+    private void assertIndexOnly(CapturedQuery query) {
+        String json = jdbc.queryForObject("EXPLAIN (ANALYZE, BUFFERS, FORMAT JSON) " + query.sql(),
+                String.class, query.params().toArray());
+        try {
+            JsonNode plan = objectMapper.readTree(json).get(0).path("Plan");
+            List<String> violations = new ArrayList<>();
+            collectViolations(plan, violations);
+            assertTrue(violations.isEmpty(), "플랜 회귀: " + violations + "\n" + query.sql() + "\n" + plan.toPrettyString());
+        } catch (Exception e) {
+            if (e instanceof AssertionError ae) throw ae;
+            throw new IllegalStateException("EXPLAIN 결과 파싱 실패", e);
+        }
+    }
+
+    private void collectViolations(JsonNode node, List<String> violations) {
+        String type = node.path("Node Type").asText();
+        String relation = node.path("Relation Name").asText("");
+        if ("Seq Scan".equals(type) && (relation.equals("news") || relation.equals("news_scrap"))) {
+            violations.add("Seq Scan on " + relation);
+        }
+        if ("Sort".equals(type) || "Incremental Sort".equals(type)) {
+            violations.add(type + " " + node.path("Sort Key"));
+        }
+        for (JsonNode child : node.path("Plans")) collectViolations(child, violations);
+    }
+
+    // ---------- SQL 캡처 (DataSource → Connection → PreparedStatement 프록시) ----------
+
+    record CapturedQuery(String sql, List<Object> params) {}
+
+    /** 리포지토리 호출 중 실행된 SELECT와 바인딩 값 (실행 순서대로) */
+    static class SqlCapture {
+        private final List<CapturedQuery> queries = new CopyOnWriteArrayList<>();
+
+        void clear() {
+            queries.clear();
+        }
+
+        CapturedQuery first() {
+            assertFalse(queries.isEmpty(), "캡처된 SELECT가 없음");
+            return queries.get(0);
+        }
+
+        DataSource wrap(DataSource target) {
+            return proxy(DataSource.class, target, (method, args, result) ->
+                    result instanceof Connection c ? wrapConnection(c) : result);
+        }
+
+        private Connection wrapConnection(Connection target) {
+            return proxy(Connection.class, target, (method, args, result) ->
+                    method.getName().equals("prepareStatement") && result instanceof PreparedStatement ps
+                            ? wrapStatement(ps, (String) args[0])
+                            : result);
+        }
+
+        private PreparedStatement wrapStatement(PreparedStatement target, String sql) {
+            Map<Integer, Object> params = new TreeMap<>();
+            return (PreparedStatement) Proxy.newProxyInstance(getClass().getClassLoader(),
+                    new Class<?>[]{PreparedStatement.class}, (proxy, method, args) -> {
+                        String name = method.getName();
+                        if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer index) {
+                            params.put(index, name.equals("setNull") ? null : args[1]);
+                        } else if (name.equals("clearParameters")) {
+                            params.clear();
+                        } else if ((name.equals("executeQuery") || name.equals("execute"))
+                                && sql.stripLeading().toLowerCase().startsWith("select")) {
+                            queries.add(new CapturedQuery(sql, new ArrayList<>(params.values())));
+                        }
+                        return invoke(target, method, args);
+                    });
+        }
+
+        private interface AfterCall {
+            Object apply(Method method, Object[] args, Object result);
+        }
+
+        private <T> T proxy(Class<T> type, T target, AfterCall after) {
+            InvocationHandler handler = (proxy, method, args) -> after.apply(method, args, invoke(target, method, args));
+            return type.cast(Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{type}, handler));
+        }
+
+        private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+
+    @TestConfiguration
+    static class CaptureConfig {
+        @Bean
+        SqlCapture sqlCapture() {
+            return new SqlCapture();
+        }
+
+        @Bean
+        static BeanPostProcessor captureDataSource(ObjectProvider<SqlCapture> capture) {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return bean instanceof DataSource ds ? capture.getObject().wrap(ds) : bean;
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.ssafy.myissue.news.service;
+
+import com.ssafy.myissue.common.exception.CustomException;
+import com.ssafy.myissue.common.exception.ErrorCode;
+import com.ssafy.myissue.news.dto.CursorCodec;
+import com.ssafy.myissue.news.dto.IdCursor;
+import com.ssafy.myissue.news.dto.LatestCursor;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * NewsService 커서 검증 단위 테스트 (위조/예전 커서 → 500이 아니라 400 INVALID_CURSOR)
+ *  - 커서 해석이 저장소 접근보다 먼저라서 의존성 없이(null) 생성
+ *  - 실행: ./gradlew unitTest
+ */
+@Tag("unit")
+class NewsServiceCursorTest {
+
+    private final NewsService newsService = new NewsService(null, null, null, null, null, null, null);
+
+    @BeforeAll
+    static void configure() {
+        CursorCodec.configure("news-service-cursor-test-secret".getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void getLatest_tamperedCursor_invalidCursor() {
+        byte[] bytes = Base64.getUrlDecoder().decode(CursorCodec.encode(new LatestCursor(1_735_660_800L, 42L)));
+        bytes[bytes.length - 1] ^= 0x01;
+        String tampered = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+        assertInvalidCursor(tampered);
+    }
+
+    @Test
+    void getLatest_legacyJsonCursor_invalidCursor() {
+        String legacy = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString("{\"createdAtSec\":1735660800,\"newsId\":42}".getBytes(StandardCharsets.UTF_8));
+
+        assertInvalidCursor(legacy);
+    }
+
+    @Test
+    void getLatest_otherTypeOrGarbage_invalidCursor() {
+        assertInvalidCursor(CursorCodec.encode(new IdCursor(42L)));
+        assertInvalidCursor("!!not-a-cursor!!");
+    }
+
+    private void assertInvalidCursor(String cursor) {
+        CustomException e = assertThrows(CustomException.class, () -> newsService.getLatest(cursor, 20));
+        assertEquals(ErrorCode.INVALID_CURSOR.getCode(), e.getErrorCode());
+    }
+}